@@ -183,7 +183,7 @@ public class MyAiController {
         // 문서 임베딩 Flux
         Mono<StreamEvent> embedFlux = syncSourceMono.flatMap(pair -> {
                     EmbedVO embed = pair.getSecond();
-                    return embedCoreService.syncEmbedSources(collectionType, embed.getDocumentEntities(), embed.getDeleteDocumentIds())
+                    return embedCoreService.syncEmbedSources(collectionType, embed.getCategoryCode(), embed.getDocumentEntities(), embed.getDeleteDocumentIds())
                             .then(Mono.just(
                                     StreamEvent.prepare(sessionId, 1f, "문서 힉습중")
                             ));
@@ -276,7 +276,7 @@ public class MyAiController {
         // 문서 임베딩 Flux
         Mono<StreamEvent> embedFlux = syncSourceMono.flatMap(pair -> {
                     EmbedVO embed = pair.getSecond();
-                    return embedCoreService.syncEmbedSources(collectionType, embed.getDocumentEntities(), embed.getDeleteDocumentIds())
+                    return embedCoreService.syncEmbedSources(collectionType, embed.getCategoryCode(), embed.getDocumentEntities(), embed.getDeleteDocumentIds())
                             .then(Mono.just(
                                     StreamEvent.prepare(sessionId, 1f, "문서 힉습중")
                             ));
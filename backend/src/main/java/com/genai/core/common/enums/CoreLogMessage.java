@@ -11,6 +11,7 @@ public enum CoreLogMessage implements ReactiveLogMessage {
     REWRITE_QUERY_MESSAGE("재정의 질의 생성", "Rewrite query generate", List.of("Rewrite Query")),
     MULTITURN_CONVERSATIONS_MESSAGE("멀티턴을 위한 대화 이력 선별", "Multi-turn conversations pick / Topic change check", List.of("Is Change Topic", "Multi-turn Conversations")),
     RERANK_MESSAGE("검색 결과 리랭킹", "Search result reranking", List.of("Rerank Documents")),
+    ANSWER_CACHE_HIT_MESSAGE("답변 캐시 조회", "Answer cache hit", List.of("User Query", "Answer")),
     QUESTION_CONTEXT_MESSAGE("질의 컨텍스트 생성", "Question context generate", List.of("Is Change Topic", "Conversations", "Multi-turn Conversations", "User Query", "Rewrite Query", "Rerank Documents")),
     REFERENCE_MESSAGE("참고 문서", "Reference documents generate", List.of("Reference Documents")),
     CHAT_HISTORY_SAVE_MESSAGE("대화 이력 저장", "Chat history save", List.of("Chat ID ", "Msg ID", "User Query", "Rewrite Query", "Answer")),
@@ -0,0 +1,33 @@
+package com.genai.core.common.enums;
+
+import com.genai.core.config.properties.FusionProperty;
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.wrapper.Search;
+import com.genai.core.utils.HybridFusionUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public enum FusionType {
+
+    RRF("rrf"),
+    MIN_MAX("min_max"),
+    ;
+
+    private final String type;
+
+    public <T extends DocumentEntity> List<Search<T>> fuse(List<Search<T>> keywordSearches, List<Search<T>> vectorSearches, FusionProperty fusionProperty) {
+        return switch (this) {
+            case RRF -> HybridFusionUtil.reciprocalRankFusion(
+                    keywordSearches, vectorSearches,
+                    fusionProperty.getRrfK(), fusionProperty.getKeywordWeight(), fusionProperty.getVectorWeight());
+
+            case MIN_MAX -> HybridFusionUtil.minMaxFusion(
+                    keywordSearches, vectorSearches,
+                    fusionProperty.getKeywordWeight(), fusionProperty.getVectorWeight());
+        };
+    }
+}
@@ -1,11 +1,13 @@
 package com.genai.core.common.enums;
 
 import com.genai.core.config.properties.LlmInstanceProperty;
+import com.genai.core.repository.request.AnswerRequest;
 import com.genai.core.repository.request.OpenAIAnswerRequest;
 import com.genai.core.repository.request.VllmAnswerRequest;
 import com.genai.core.repository.response.AnswerResponse;
 import com.genai.core.repository.response.OpenAIAnswerResponse;
 import com.genai.core.repository.response.VllmAnswerResponse;
+import com.genai.core.repository.vo.LlmOptionVO;
 import com.genai.core.service.module.vo.ConversationVO;
 import com.genai.core.utils.TokenCalculateUtil;
 import lombok.AllArgsConstructor;
@@ -17,24 +19,35 @@ import java.util.List;
 @AllArgsConstructor
 public enum LlmPlatformType {
 
-    VLLM("vllm", VllmAnswerResponse.class),
-    OPENAI("openai", OpenAIAnswerResponse.class),
+    VLLM("vllm", VllmAnswerResponse.class, "/health"),
+    OPENAI("openai", OpenAIAnswerResponse.class, "/v1/models"),
     ;
 
     private final String platform;
     private final Class<? extends AnswerResponse> responseClass;
+    private final String healthPath;
 
-    public Object request(
+    public AnswerRequest request(
             LlmInstanceProperty llmInstanceProperty, Double temperature, Double topP, boolean stream,
-            String prompt, String developer, String query, String context, String chatState, List<ConversationVO> conversations
+            String prompt, String developer, String query, String context, String chatState, List<ConversationVO> conversations,
+            LlmOptionVO llmOption
     ) {
+        int maxTokens = TokenCalculateUtil.calculateMaxTokens(llmInstanceProperty, prompt, query, chatState, conversations, context);
+
+        // 호출 지점 출력 토큰 상한 적용
+        if (llmOption.getMaxTokens() != null) {
+            maxTokens = Math.min(maxTokens, llmOption.getMaxTokens());
+        }
+
         return switch (this) {
             case VLLM -> VllmAnswerRequest.builder()
                     .modelName(llmInstanceProperty.getModelName())
                     .temperature(temperature)
                     .topP(topP)
-                    .maxTokens(TokenCalculateUtil.calculateMaxTokens(llmInstanceProperty, prompt, query, chatState, conversations, context))
+                    .maxTokens(maxTokens)
                     .stream(stream)
+                    .stop(llmOption.getStopSequences())
+                    .jsonSchema(llmOption.getJsonSchema())
                     .prompt(prompt)
                     .developer(developer)
                     .chatState(chatState)
@@ -47,8 +60,10 @@ public enum LlmPlatformType {
                     .modelName(llmInstanceProperty.getModelName())
                     .temperature(temperature)
                     .topP(topP)
-                    .maxTokens(TokenCalculateUtil.calculateMaxTokens(llmInstanceProperty, prompt, query, chatState, conversations, context))
+                    .maxTokens(maxTokens)
                     .stream(stream)
+                    .stop(llmOption.getStopSequences())
+                    .jsonSchema(llmOption.getJsonSchema())
                     .prompt(prompt)
                     .developer(developer)
                     .chatState(chatState)
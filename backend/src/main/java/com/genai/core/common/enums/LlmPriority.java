@@ -0,0 +1,54 @@
+package com.genai.core.common.enums;
+
+import com.genai.core.config.properties.LlmPriorityProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public enum LlmPriority {
+
+    INTERACTIVE("interactive"),
+    MODULE("module"),
+    BATCH("batch"),
+    ;
+
+    private final String type;
+
+    /**
+     * 하위 우선 순위 요청에 대해 비워 두어야 하는 세션 비율
+     *
+     * @param llmPriorityProperty 우선 순위 설정
+     * @return 예약 비율
+     */
+    public double reserveRatio(LlmPriorityProperty llmPriorityProperty) {
+        return switch (this) {
+            case INTERACTIVE -> llmPriorityProperty.getInteractiveReserveRatio();
+            case MODULE -> llmPriorityProperty.getModuleReserveRatio();
+            case BATCH -> 0.0;
+        };
+    }
+
+    /**
+     * 상위 우선 순위 요청을 위해 비워 두어야 하는 세션 수
+     * 해당 Pool 에 유입된 적 있는 상위 우선 순위만 예약하며, 최소 1개 세션은 항상 허용
+     *
+     * @param sessionCount        Instance 세션 한도
+     * @param llmPriorityProperty 우선 순위 설정
+     * @param servedPriorities    Pool 유입 우선 순위 목록
+     * @return 예약 세션 수
+     */
+    public int reservedPermits(int sessionCount, LlmPriorityProperty llmPriorityProperty, Set<LlmPriority> servedPriorities) {
+
+        double reserveRatio = servedPriorities.stream()
+                .filter(servedPriority -> servedPriority.compareTo(this) < 0)
+                .mapToDouble(servedPriority -> servedPriority.reserveRatio(llmPriorityProperty))
+                .sum();
+
+        int reservedPermits = (int) Math.ceil(sessionCount * Math.min(reserveRatio, 1.0));
+
+        return Math.min(reservedPermits, Math.max(sessionCount - 1, 0));
+    }
+}
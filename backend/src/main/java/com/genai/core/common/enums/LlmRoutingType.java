@@ -0,0 +1,63 @@
+package com.genai.core.common.enums;
+
+import com.genai.core.config.instance.LlmInstance;
+import com.genai.core.config.properties.LlmRoutingProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+
+@Getter
+@AllArgsConstructor
+public enum LlmRoutingType {
+
+    RANDOM("random"),
+    LEAST_OUTSTANDING("least_outstanding"),
+    EWMA("ewma"),
+    P2C("p2c"),
+    ;
+
+    private final String type;
+
+    /**
+     * 세션 획득 시도 순서로 LLM Instance 정렬
+     *
+     * @param instances          LLM Instance 목록
+     * @param llmRoutingProperty 라우팅 설정
+     * @return 정렬된 LLM Instance 목록
+     */
+    public List<LlmInstance> order(List<LlmInstance> instances, LlmRoutingProperty llmRoutingProperty) {
+
+        // 동률 Instance 간 부하 분산을 위해 섞은 후 안정 정렬
+        List<LlmInstance> orderedInstances = new ArrayList<>(instances);
+        Collections.shuffle(orderedInstances);
+
+        // 정렬 중 부하 변동 방지를 위해 지표 스냅샷 사용
+        Map<LlmInstance, Integer> outstandings = new IdentityHashMap<>();
+        Map<LlmInstance, Double> expectedLatencies = new IdentityHashMap<>();
+        orderedInstances.forEach(instance -> {
+            int outstanding = instance.getOutstanding();
+            outstandings.put(instance, outstanding);
+            expectedLatencies.put(instance, instance.getStat().getExpectedLatencyMs(llmRoutingProperty.getExpectedOutputTokens()) * (outstanding + 1));
+        });
+
+        Comparator<LlmInstance> expectedLatencyComparator = Comparator.comparingDouble(expectedLatencies::get);
+
+        switch (this) {
+            case LEAST_OUTSTANDING -> orderedInstances.sort(Comparator.comparingInt(outstandings::get));
+
+            case EWMA -> orderedInstances.sort(expectedLatencyComparator);
+
+            // 임의의 두 Instance 중 예상 응답 시간이 짧은 Instance 우선
+            case P2C -> {
+                if (orderedInstances.size() > 1 && expectedLatencyComparator.compare(orderedInstances.get(1), orderedInstances.get(0)) < 0) {
+                    Collections.swap(orderedInstances, 0, 1);
+                }
+            }
+
+            case RANDOM -> {}
+        }
+
+        return orderedInstances;
+    }
+}
@@ -3,5 +3,7 @@ package com.genai.core.common.enums;
 public enum LlmType {
 
     DEFAULT,
+    FAST,
+    BULK,
     ;
 }
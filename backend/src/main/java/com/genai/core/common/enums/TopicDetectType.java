@@ -0,0 +1,8 @@
+package com.genai.core.common.enums;
+
+public enum TopicDetectType {
+
+    LLM,
+    EMBEDDING,
+    ;
+}
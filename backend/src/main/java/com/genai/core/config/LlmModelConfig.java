@@ -3,7 +3,13 @@ package com.genai.core.config;
 import com.genai.core.common.enums.LlmPlatformType;
 import com.genai.core.common.enums.LlmType;
 import com.genai.core.config.instance.LlmInstance;
+import com.genai.core.config.instance.LlmInstancePool;
+import com.genai.core.config.properties.LlmHealthProperty;
 import com.genai.core.config.properties.LlmInstanceProperty;
+import com.genai.core.config.properties.LlmLimitProperty;
+import com.genai.core.config.properties.LlmPriorityProperty;
+import com.genai.core.config.properties.LlmRoutingProperty;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -37,12 +43,10 @@ public class LlmModelConfig {
     private List<LlmInstanceProperty> instances;
 
     @Bean
-    public Map<LlmType, List<LlmInstance>> llmInstanceMap() {
+    public Map<LlmType, List<LlmInstance>> llmInstanceMap(LlmRoutingProperty llmRoutingProperty, LlmLimitProperty llmLimitProperty, LlmHealthProperty llmHealthProperty, MeterRegistry meterRegistry) {
 
         Map<LlmType, List<LlmInstance>> llmInstanceMap = new ConcurrentHashMap<>();
 
-        Arrays.stream(LlmType.values()).forEach(llmType -> llmInstanceMap.put(llmType, new ArrayList<>()));
-
         instances.stream()
                 .sorted((o1, o2) -> {
                     if (o1.getType().equals(o2.getType())) {
@@ -76,6 +80,10 @@ public class LlmModelConfig {
                             .platformType(platformType)
                             .llmInstanceProperty(llmInstanceProperty)
                             .webClient(webClient)
+                            .ewmaAlpha(llmRoutingProperty.getEwmaAlpha())
+                            .llmLimitProperty(llmLimitProperty)
+                            .llmHealthProperty(llmHealthProperty)
+                            .meterRegistry(meterRegistry)
                             .build());
 
                     llmInstanceMap.put(llmType, llmInstance);
@@ -93,4 +101,20 @@ public class LlmModelConfig {
 
         return llmInstanceMap;
     }
+
+    @Bean
+    public Map<LlmType, LlmInstancePool> llmInstancePoolMap(Map<LlmType, List<LlmInstance>> llmInstanceMap, LlmRoutingProperty llmRoutingProperty, LlmPriorityProperty llmPriorityProperty, MeterRegistry meterRegistry) {
+
+        Map<LlmType, LlmInstancePool> llmInstancePoolMap = new ConcurrentHashMap<>();
+
+        llmInstanceMap.forEach((llmType, llmInstances) ->
+                llmInstancePoolMap.put(llmType, new LlmInstancePool(llmType, llmInstances, llmRoutingProperty, llmPriorityProperty, meterRegistry)));
+
+        // 미설정 타입은 DEFAULT Instance 사용 (ModelRepositoryImpl 에서 DEFAULT Pool 로 대체)
+        Arrays.stream(LlmType.values())
+                .filter(llmType -> !llmInstancePoolMap.containsKey(llmType))
+                .forEach(llmType -> log.info("[model] {} | fallback {}", llmType.name(), LlmType.DEFAULT.name()));
+
+        return llmInstancePoolMap;
+    }
 }
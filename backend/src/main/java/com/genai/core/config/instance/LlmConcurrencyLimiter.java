@@ -0,0 +1,205 @@
+package com.genai.core.config.instance;
+
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.config.properties.LlmLimitProperty;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LlmConcurrencyLimiter {
+
+    private static final String LIMIT_METRIC = "llm.instance.limit";
+    private static final String LIMIT_CHANGE_METRIC = "llm.instance.limit.change";
+
+    private final LlmLimitProperty llmLimitProperty;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    @Getter
+    private volatile int limit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // 기준 첫 토큰 응답 시간 / 토큰당 생성 시간 (장기 지수 이동 평균, ms)
+    private double baselineFirstTokenMs;
+
+    private double baselineTokenMs;
+
+    // 비스트림 요청 기준 응답 시간 (최대 출력 토큰당, 프리필 포함, 장기 지수 이동 평균, ms)
+    private double baselineRequestMs;
+
+    private final Counter increaseCounter;
+
+    private final Counter latencyDecreaseCounter;
+
+    private final Counter errorDecreaseCounter;
+
+    private final Counter resetCounter;
+
+    public LlmConcurrencyLimiter(String instanceId, int initialLimit, int minLimit, int maxLimit, LlmLimitProperty llmLimitProperty, MeterRegistry meterRegistry) {
+        this.llmLimitProperty = llmLimitProperty;
+        this.maxLimit = Math.max(Math.max(1, minLimit), maxLimit);
+        // 모든 우선 순위가 최소 1개 세션을 받을 수 있는 한도 이하로 축소하지 않음 (최대 한도 이내)
+        this.minLimit = Math.min(Math.max(minLimit, LlmPriority.values().length), this.maxLimit);
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+
+        // 현재 한도 및 변경 사유 지표 등록
+        Gauge.builder(LIMIT_METRIC, this, LlmConcurrencyLimiter::getLimit)
+                .tag("instance", instanceId)
+                .register(meterRegistry);
+        this.increaseCounter = this.changeCounter(instanceId, "increase", meterRegistry);
+        this.latencyDecreaseCounter = this.changeCounter(instanceId, "latency", meterRegistry);
+        this.errorDecreaseCounter = this.changeCounter(instanceId, "error", meterRegistry);
+        this.resetCounter = this.changeCounter(instanceId, "ejection", meterRegistry);
+    }
+
+    /**
+     * 처리 중 요청 수 조회
+     *
+     * @return 처리 중 요청 수
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 가용 세션 수 조회 (한도 축소 직후 음수 가능)
+     *
+     * @return 가용 세션 수
+     */
+    public int getAvailablePermits() {
+        return limit - inFlight.get();
+    }
+
+    public void acquire() {
+        inFlight.incrementAndGet();
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 응답 지연 표본 반영 (AIMD)
+     * 기준 대비 허용 배수를 초과하면 한도를 비율 감소, 한도의 절반 이상 사용 중이면 1 증가
+     *
+     * @param firstTokenMs 첫 토큰 응답 시간 (측정 불가 시 NaN)
+     * @param tokenMs      토큰당 생성 시간 (측정 불가 시 NaN)
+     */
+    public synchronized void onSample(double firstTokenMs, double tokenMs) {
+
+        if (!llmLimitProperty.isEnabled()) return;
+
+        boolean isCongested = this.exceeds(baselineFirstTokenMs, firstTokenMs) || this.exceeds(baselineTokenMs, tokenMs);
+
+        baselineFirstTokenMs = this.ewma(baselineFirstTokenMs, firstTokenMs);
+        baselineTokenMs = this.ewma(baselineTokenMs, tokenMs);
+
+        this.adjust(isCongested);
+    }
+
+    /**
+     * 비스트림 요청 응답 지연 표본 반영 (AIMD)
+     * 프리필 시간이 포함되어 스트림 토큰당 생성 시간과 분리된 기준으로 비교
+     *
+     * @param requestMs 최대 출력 토큰당 응답 시간 (측정 불가 시 NaN)
+     */
+    public synchronized void onRequestSample(double requestMs) {
+
+        if (!llmLimitProperty.isEnabled()) return;
+
+        boolean isCongested = this.exceeds(baselineRequestMs, requestMs);
+
+        baselineRequestMs = this.ewma(baselineRequestMs, requestMs);
+
+        this.adjust(isCongested);
+    }
+
+    /**
+     * 요청 실패 반영
+     */
+    public synchronized void onError() {
+
+        if (!llmLimitProperty.isEnabled()) return;
+
+        this.decrease(errorDecreaseCounter);
+    }
+
+    /**
+     * 한도 최소화 (격리 해제 후 점진 증가)
+     */
+    public synchronized void reset() {
+
+        if (limit > minLimit) {
+            limit = minLimit;
+            resetCounter.increment();
+        }
+    }
+
+    /**
+     * 혼잡 여부에 따른 한도 조정 (혼잡 시 비율 감소, 한도의 절반 이상 사용 중이면 1 증가)
+     *
+     * @param isCongested 혼잡 여부
+     */
+    private void adjust(boolean isCongested) {
+
+        if (isCongested) {
+            this.decrease(latencyDecreaseCounter);
+        } else if (inFlight.get() * 2 >= limit && limit < maxLimit) {
+            limit++;
+            increaseCounter.increment();
+        }
+    }
+
+    /**
+     * 한도 비율 감소
+     *
+     * @param reasonCounter 변경 사유 카운터
+     */
+    private void decrease(Counter reasonCounter) {
+
+        int decreasedLimit = Math.max(minLimit, (int) Math.floor(limit * llmLimitProperty.getBackoffRatio()));
+
+        if (decreasedLimit < limit) {
+            limit = decreasedLimit;
+            reasonCounter.increment();
+        }
+    }
+
+    /**
+     * 기준 대비 허용 배수 초과 여부 (기준 미수집 시 미초과)
+     *
+     * @param baseline 기준 값
+     * @param sample   표본
+     * @return 초과 여부
+     */
+    private boolean exceeds(double baseline, double sample) {
+        return baseline > 0 && !Double.isNaN(sample) && sample > baseline * llmLimitProperty.getLatencyTolerance();
+    }
+
+    /**
+     * 지수 이동 평균 계산 (첫 표본은 그대로 사용, 측정 불가 표본 제외)
+     *
+     * @param average 이전 평균
+     * @param sample  표본
+     * @return 지수 이동 평균
+     */
+    private double ewma(double average, double sample) {
+
+        if (Double.isNaN(sample)) return average;
+
+        return average == 0 ? sample : llmLimitProperty.getBaselineAlpha() * sample + (1 - llmLimitProperty.getBaselineAlpha()) * average;
+    }
+
+    private Counter changeCounter(String instanceId, String reason, MeterRegistry meterRegistry) {
+        return Counter.builder(LIMIT_CHANGE_METRIC)
+                .tag("instance", instanceId)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,7 +1,10 @@
 package com.genai.core.config.instance;
 
 import com.genai.core.common.enums.LlmPlatformType;
+import com.genai.core.config.properties.LlmHealthProperty;
 import com.genai.core.config.properties.LlmInstanceProperty;
+import com.genai.core.config.properties.LlmLimitProperty;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -9,7 +12,6 @@ import org.springframework.web.reactive.function.client.WebClient;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.Semaphore;
 
 @Getter
 public class LlmInstance {
@@ -22,37 +24,59 @@ public class LlmInstance {
 
     private final WebClient webClient;
 
-    private final Semaphore sessionCount;
+    private final LlmConcurrencyLimiter limiter;
 
     private final Queue<String> sessionQueue = new ConcurrentLinkedDeque<>();
 
+    private final LlmInstanceStat stat;
+
+    private final LlmInstanceHealth health;
+
     @Builder
-    public LlmInstance(String instanceId, LlmPlatformType platformType, LlmInstanceProperty llmInstanceProperty, WebClient webClient) {
+    public LlmInstance(String instanceId, LlmPlatformType platformType, LlmInstanceProperty llmInstanceProperty, WebClient webClient, double ewmaAlpha,
+                       LlmLimitProperty llmLimitProperty, LlmHealthProperty llmHealthProperty, MeterRegistry meterRegistry) {
         this.instanceId = instanceId;
         this.platformType = platformType;
         this.llmInstanceProperty = llmInstanceProperty;
         this.webClient = webClient;
-        this.sessionCount = new Semaphore(this.llmInstanceProperty.getSessionCount());
+        this.limiter = new LlmConcurrencyLimiter(
+                instanceId,
+                llmInstanceProperty.getSessionCount(),
+                llmInstanceProperty.getMinSessionCount(),
+                llmInstanceProperty.getMaxSessionCount() > 0 ? llmInstanceProperty.getMaxSessionCount() : llmInstanceProperty.getSessionCount(),
+                llmLimitProperty,
+                meterRegistry);
+        this.stat = new LlmInstanceStat(ewmaAlpha);
+        this.health = new LlmInstanceHealth(instanceId, llmHealthProperty, this.limiter, meterRegistry);
+    }
+
+    public int getOutstanding() {
+        return limiter.getInFlight();
+    }
+
+    public int getAvailablePermits() {
+        return limiter.getAvailablePermits();
     }
 
-    public Optional<Integer> tryAcquire(String requestId) {
+    public synchronized Optional<Integer> tryAcquire(String requestId, int reservedPermits) {
 
-        if (!sessionCount.tryAcquire()) {
+        // 처리 중 요청이 없으면 예약 세션과 무관하게 허용
+        if (limiter.getInFlight() > 0 && limiter.getAvailablePermits() <= reservedPermits) {
             return Optional.empty();
         }
 
         if (!sessionQueue.add(requestId)) {
-            sessionCount.release();
             return Optional.empty();
         }
 
-        return Optional.of(sessionCount.availablePermits());
+        limiter.acquire();
+        return Optional.of(limiter.getAvailablePermits());
     }
 
-    public int release(String requestId) {
+    public synchronized int release(String requestId) {
         sessionQueue.remove(requestId);
-        sessionCount.release();
-        return sessionCount.availablePermits();
+        limiter.release();
+        return limiter.getAvailablePermits();
     }
 
     public record AcquireResult(LlmInstance instance, int sessionCount) {}
@@ -0,0 +1,154 @@
+package com.genai.core.config.instance;
+
+import com.genai.core.config.properties.LlmHealthProperty;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LlmInstanceHealth {
+
+    private static final String EJECTED_METRIC = "llm.instance.ejected";
+    private static final String EJECTION_METRIC = "llm.instance.ejection";
+    private static final String EJECTION_REMAINING_METRIC = "llm.instance.ejection.remaining";
+
+    private final String instanceId;
+
+    private final LlmHealthProperty llmHealthProperty;
+
+    private final LlmConcurrencyLimiter limiter;
+
+    private int consecutiveErrors;
+
+    private int consecutiveProbeErrors;
+
+    // 연속 격리 횟수 (격리 시간 지수 증가)
+    private int ejectionCount;
+
+    private volatile long ejectedUntilMs;
+
+    private final Counter errorEjectionCounter;
+
+    private final Counter latencyEjectionCounter;
+
+    private final Counter probeEjectionCounter;
+
+    public LlmInstanceHealth(String instanceId, LlmHealthProperty llmHealthProperty, LlmConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+        this.instanceId = instanceId;
+        this.llmHealthProperty = llmHealthProperty;
+        this.limiter = limiter;
+
+        // 격리 여부, 격리 잔여 시간 및 격리 사유 지표 등록
+        Gauge.builder(EJECTED_METRIC, this, health -> health.isEjected() ? 1 : 0)
+                .tag("instance", instanceId)
+                .register(meterRegistry);
+        Gauge.builder(EJECTION_REMAINING_METRIC, this, LlmInstanceHealth::getRemainingEjectionMs)
+                .tag("instance", instanceId)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.errorEjectionCounter = this.ejectionCounter(instanceId, "error", meterRegistry);
+        this.latencyEjectionCounter = this.ejectionCounter(instanceId, "latency", meterRegistry);
+        this.probeEjectionCounter = this.ejectionCounter(instanceId, "probe", meterRegistry);
+    }
+
+    /**
+     * 격리 여부
+     *
+     * @return 격리 여부
+     */
+    public boolean isEjected() {
+        return System.currentTimeMillis() < ejectedUntilMs;
+    }
+
+    /**
+     * 격리 잔여 시간 조회
+     *
+     * @return 격리 잔여 시간 (ms)
+     */
+    private long getRemainingEjectionMs() {
+        return Math.max(0, ejectedUntilMs - System.currentTimeMillis());
+    }
+
+    /**
+     * 요청 성공 반영
+     */
+    public synchronized void onSuccess() {
+        consecutiveErrors = 0;
+
+        if (!this.isEjected() && consecutiveProbeErrors == 0) {
+            ejectionCount = 0;
+        }
+    }
+
+    /**
+     * 요청 실패 반영 (연속 실패 임계 도달 시 격리)
+     */
+    public synchronized void onError() {
+        if (++consecutiveErrors >= llmHealthProperty.getConsecutiveErrors()) {
+            this.eject(errorEjectionCounter);
+        }
+    }
+
+    /**
+     * 첫 토큰 응답 시간 급증 여부 반영 (급증도 연속 실패로 간주)
+     *
+     * @param firstTokenMs     첫 토큰 응답 시간
+     * @param ewmaFirstTokenMs 첫 토큰 응답 시간 평균
+     */
+    public synchronized void onFirstToken(double firstTokenMs, double ewmaFirstTokenMs) {
+
+        if (ewmaFirstTokenMs <= 0 || firstTokenMs <= ewmaFirstTokenMs * llmHealthProperty.getLatencySpikeRatio()) {
+            this.onSuccess();
+            return;
+        }
+
+        if (++consecutiveErrors >= llmHealthProperty.getConsecutiveErrors()) {
+            this.eject(latencyEjectionCounter);
+        }
+    }
+
+    /**
+     * 상태 점검 결과 반영
+     *
+     * @param isHealthy 정상 여부
+     */
+    public synchronized void onProbe(boolean isHealthy) {
+
+        if (isHealthy) {
+            consecutiveProbeErrors = 0;
+            return;
+        }
+
+        if (++consecutiveProbeErrors >= llmHealthProperty.getConsecutiveErrors()) {
+            this.eject(probeEjectionCounter);
+        }
+    }
+
+    /**
+     * 격리 (격리 시간은 연속 격리 횟수에 따라 지수 증가)
+     * 격리 해제 후 세션 한도를 최소로 낮춰 점진 복귀
+     *
+     * @param reasonCounter 격리 사유 카운터
+     */
+    private void eject(Counter reasonCounter) {
+
+        long ejectionMs = Math.min((long) llmHealthProperty.getBaseEjectionMs() << Math.min(ejectionCount, 16), llmHealthProperty.getMaxEjectionMs());
+
+        ejectedUntilMs = System.currentTimeMillis() + ejectionMs;
+        ejectionCount++;
+        consecutiveErrors = 0;
+        consecutiveProbeErrors = 0;
+        limiter.reset();
+        reasonCounter.increment();
+
+        log.warn("[model] {} | ejected {}ms", instanceId, ejectionMs);
+    }
+
+    private Counter ejectionCounter(String instanceId, String reason, MeterRegistry meterRegistry) {
+        return Counter.builder(EJECTION_METRIC)
+                .tag("instance", instanceId)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
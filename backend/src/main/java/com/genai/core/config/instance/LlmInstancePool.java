@@ -0,0 +1,308 @@
+package com.genai.core.config.instance;
+
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.common.enums.LlmRoutingType;
+import com.genai.core.common.enums.LlmType;
+import com.genai.core.config.properties.LlmPriorityProperty;
+import com.genai.core.config.properties.LlmRoutingProperty;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LlmInstancePool {
+
+    private static final String QUEUE_DEPTH_METRIC = "llm.instance.queue.depth";
+    private static final String WAIT_TIME_METRIC = "llm.instance.wait";
+    private static final String AFFINITY_METRIC = "llm.instance.affinity";
+
+    @Getter
+    private final LlmType llmType;
+
+    @Getter
+    private final List<LlmInstance> instances;
+
+    // 대기 요청 큐 (우선 순위 오름차순, 동일 우선 순위 내 FIFO)
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Pool 유입 우선 순위 (유입된 적 없는 상위 우선 순위는 예약하지 않음)
+    private final Set<LlmPriority> servedPriorities = EnumSet.noneOf(LlmPriority.class);
+
+    private final LlmRoutingProperty llmRoutingProperty;
+
+    private final LlmRoutingType llmRoutingType;
+
+    private final LlmPriorityProperty llmPriorityProperty;
+
+    private final Timer waitTimer;
+
+    // 라우팅 키 일관 해시 링 (가상 노드 해시 → Instance)
+    private final NavigableMap<Long, LlmInstance> hashRing = new TreeMap<>();
+
+    private final Counter affinityHitCounter;
+
+    private final Counter affinityMissCounter;
+
+    public LlmInstancePool(LlmType llmType, List<LlmInstance> instances, LlmRoutingProperty llmRoutingProperty, LlmPriorityProperty llmPriorityProperty, MeterRegistry meterRegistry) {
+        this.llmType = llmType;
+        this.instances = List.copyOf(instances);
+        this.llmRoutingProperty = llmRoutingProperty;
+        this.llmRoutingType = LlmRoutingType.valueOf(llmRoutingProperty.getType().toUpperCase());
+        this.llmPriorityProperty = llmPriorityProperty;
+        this.waitTimer = Timer.builder(WAIT_TIME_METRIC)
+                .tag("type", llmType.name())
+                .register(meterRegistry);
+
+        this.affinityHitCounter = Counter.builder(AFFINITY_METRIC)
+                .tag("type", llmType.name())
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.affinityMissCounter = Counter.builder(AFFINITY_METRIC)
+                .tag("type", llmType.name())
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        for (LlmInstance instance : this.instances) {
+            for (int index = 0; index < llmRoutingProperty.getAffinityVirtualNodes(); index++) {
+                hashRing.put(hash(instance.getInstanceId() + "#" + index), instance);
+            }
+        }
+
+        // 대기 큐 길이 지표 등록
+        Gauge.builder(QUEUE_DEPTH_METRIC, this, LlmInstancePool::getQueueDepth)
+                .tag("type", llmType.name())
+                .register(meterRegistry);
+    }
+
+    /**
+     * LLM Instance 획득
+     * 가용 Instance 가 없으면 대기 큐에 등록 후 반납 시점에 직접 인계
+     *
+     * @param requestId           요청 ID
+     * @param routeKey            라우팅 키
+     * @param priority            우선 순위
+     * @param excludedInstanceIds 제외 Instance ID 목록 (재시도 시 실패 Instance)
+     * @return LLM Instance 획득 결과
+     */
+    public Mono<LlmInstance.AcquireResult> acquire(String requestId, String routeKey, LlmPriority priority, Set<String> excludedInstanceIds) {
+        return Mono.create(sink -> {
+            long startTime = System.nanoTime();
+
+            Optional<LlmInstance.AcquireResult> acquireResultOptional;
+            Waiter waiter = null;
+
+            synchronized (this) {
+                servedPriorities.add(priority);
+                acquireResultOptional = this.tryAcquire(requestId, routeKey, priority, excludedInstanceIds);
+
+                if (acquireResultOptional.isEmpty()) {
+                    waiter = new Waiter(requestId, priority, sequence.incrementAndGet(), startTime, sink, new AtomicBoolean());
+                    waiters.add(waiter);
+                }
+            }
+
+            if (acquireResultOptional.isPresent()) {
+                waitTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                sink.success(acquireResultOptional.get());
+                return;
+            }
+
+            // 취소 (타임아웃 포함) 시 대기 큐 제거
+            Waiter registeredWaiter = waiter;
+            sink.onCancel(() -> {
+                if (registeredWaiter.assigned().compareAndSet(false, true)) {
+                    synchronized (this) {
+                        waiters.remove(registeredWaiter);
+                    }
+                }
+            });
+        });
+    }
+
+    /**
+     * LLM Instance 반납
+     * 반납 후 가용 세션 범위 내에서 앞선 대기 요청 순서로 세션 인계 (예약 세션 침범 시 중단)
+     *
+     * @param requestId 요청 ID
+     * @param instance  LLM Instance
+     * @return 잔여 세션 수
+     */
+    public int release(String requestId, LlmInstance instance) {
+
+        List<Handoff> handoffs = new ArrayList<>();
+        int sessionCount;
+
+        synchronized (this) {
+            sessionCount = instance.release(requestId);
+
+            Handoff handoff;
+            while ((handoff = this.pollHandoff(instance)) != null) {
+                handoffs.add(handoff);
+                sessionCount = handoff.acquireResult().sessionCount();
+            }
+        }
+
+        handoffs.forEach(handoff -> {
+            waitTimer.record(System.nanoTime() - handoff.waiter().startTime(), TimeUnit.NANOSECONDS);
+            handoff.waiter().sink().success(handoff.acquireResult());
+        });
+
+        return sessionCount;
+    }
+
+    /**
+     * 대기 큐 길이 조회
+     *
+     * @return 대기 요청 수
+     */
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    /**
+     * 가용 LLM Instance 세션 획득 시도
+     *
+     * @param requestId           요청 ID
+     * @param routeKey            라우팅 키
+     * @param priority            우선 순위
+     * @param excludedInstanceIds 제외 Instance ID 목록
+     * @return LLM Instance 획득 결과
+     */
+    private Optional<LlmInstance.AcquireResult> tryAcquire(String requestId, String routeKey, LlmPriority priority, Set<String> excludedInstanceIds) {
+
+        // 격리 / 제외 Instance 를 뺀 후보 (후보가 없으면 전체 사용)
+        List<LlmInstance> candidateInstances = instances.stream()
+                .filter(instance -> !instance.getHealth().isEjected() && !excludedInstanceIds.contains(instance.getInstanceId()))
+                .toList();
+        if (candidateInstances.isEmpty()) {
+            candidateInstances = instances;
+        }
+
+        List<LlmInstance> orderedInstances = llmRoutingType.order(candidateInstances, llmRoutingProperty);
+
+        // 라우팅 키 고정 Instance 우선 시도 (포화 / 격리 시 최소 부하 Instance 순서로 대체)
+        if (llmRoutingProperty.isAffinityEnabled() && routeKey != null) {
+            LlmInstance affinityInstance = this.getAffinityInstance(routeKey);
+            Optional<Integer> sessionCountOptional = candidateInstances.contains(affinityInstance)
+                    ? affinityInstance.tryAcquire(requestId, this.reservedPermits(affinityInstance, priority))
+                    : Optional.empty();
+
+            if (sessionCountOptional.isPresent()) {
+                affinityHitCounter.increment();
+                return Optional.of(new LlmInstance.AcquireResult(affinityInstance, sessionCountOptional.get()));
+            }
+
+            affinityMissCounter.increment();
+            orderedInstances = LlmRoutingType.LEAST_OUTSTANDING.order(candidateInstances, llmRoutingProperty);
+        }
+
+        // 라우팅 전략 순서로 시도
+        for (LlmInstance instance : orderedInstances) {
+            Optional<Integer> sessionCountOptional = instance.tryAcquire(requestId, this.reservedPermits(instance, priority));
+
+            if (sessionCountOptional.isPresent()) {
+                return Optional.of(new LlmInstance.AcquireResult(instance, sessionCountOptional.get()));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * 라우팅 키 고정 Instance 조회
+     *
+     * @param routeKey 라우팅 키
+     * @return LLM Instance
+     */
+    private LlmInstance getAffinityInstance(String routeKey) {
+        Map.Entry<Long, LlmInstance> entry = hashRing.ceilingEntry(hash(routeKey));
+        return (entry == null ? hashRing.firstEntry() : entry).getValue();
+    }
+
+    /**
+     * 해시 계산 (MD5 상위 8바이트)
+     *
+     * @param key 키
+     * @return 해시
+     */
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 우선 순위별 예약 세션 수 조회
+     *
+     * @param instance LLM Instance
+     * @param priority 우선 순위
+     * @return 예약 세션 수
+     */
+    private int reservedPermits(LlmInstance instance, LlmPriority priority) {
+        return priority.reservedPermits(instance.getLimiter().getLimit(), llmPriorityProperty, servedPriorities);
+    }
+
+    /**
+     * 대기 요청 세션 인계 (취소된 요청 제외)
+     * 선두 요청이 예약 세션을 침범하면 인계하지 않음 (후순위 요청도 동일)
+     * 대기 요청은 재시도 제외 Instance 와 무관하게 인계
+     *
+     * @param instance 반납 LLM Instance
+     * @return 세션 인계 결과
+     */
+    private Handoff pollHandoff(LlmInstance instance) {
+
+        // 격리 Instance 는 정상 Instance 가 남아 있는 동안 인계 제외
+        if (instance.getHealth().isEjected() && instances.stream().anyMatch(candidate -> !candidate.getHealth().isEjected())) {
+            return null;
+        }
+
+        Waiter waiter;
+
+        while ((waiter = waiters.peek()) != null) {
+            if (waiter.assigned().get()) {
+                waiters.poll();
+                continue;
+            }
+
+            Optional<Integer> sessionCountOptional = instance.tryAcquire(waiter.requestId(), this.reservedPermits(instance, waiter.priority()));
+
+            if (sessionCountOptional.isEmpty()) {
+                return null;
+            }
+
+            waiters.poll();
+            if (!waiter.assigned().compareAndSet(false, true)) {
+                // 획득 직전 취소된 요청은 세션 즉시 반납
+                instance.release(waiter.requestId());
+                continue;
+            }
+
+            return new Handoff(waiter, new LlmInstance.AcquireResult(instance, sessionCountOptional.get()));
+        }
+
+        return null;
+    }
+
+    private record Handoff(Waiter waiter, LlmInstance.AcquireResult acquireResult) {}
+
+    private record Waiter(String requestId, LlmPriority priority, long sequence, long startTime, MonoSink<LlmInstance.AcquireResult> sink, AtomicBoolean assigned) {}
+}
@@ -0,0 +1,62 @@
+package com.genai.core.config.instance;
+
+import lombok.Getter;
+
+@Getter
+public class LlmInstanceStat {
+
+    private final double ewmaAlpha;
+
+    // 첫 토큰 응답 시간 지수 이동 평균 (ms)
+    private volatile double ewmaFirstTokenMs;
+
+    // 토큰당 생성 시간 지수 이동 평균 (스트림 응답 기준, 프리필 제외, ms)
+    private volatile double ewmaTokenMs;
+
+    public LlmInstanceStat(double ewmaAlpha) {
+        this.ewmaAlpha = ewmaAlpha;
+    }
+
+    /**
+     * 첫 토큰 응답 시간 기록
+     *
+     * @param elapsedMs 요청 후 첫 토큰까지 경과 시간 (ms)
+     */
+    public synchronized void recordFirstToken(double elapsedMs) {
+        this.ewmaFirstTokenMs = this.ewma(this.ewmaFirstTokenMs, elapsedMs);
+    }
+
+    /**
+     * 토큰 생성 속도 기록
+     *
+     * @param tokenCount 생성 토큰 수
+     * @param elapsedMs  생성 경과 시간 (ms)
+     */
+    public synchronized void recordTokens(long tokenCount, double elapsedMs) {
+
+        if (tokenCount <= 0) return;
+
+        this.ewmaTokenMs = this.ewma(this.ewmaTokenMs, elapsedMs / tokenCount);
+    }
+
+    /**
+     * 예상 응답 시간 (ms)
+     *
+     * @param outputTokens 예상 출력 토큰 수
+     * @return 예상 응답 시간
+     */
+    public double getExpectedLatencyMs(int outputTokens) {
+        return this.ewmaFirstTokenMs + this.ewmaTokenMs * outputTokens;
+    }
+
+    /**
+     * 지수 이동 평균 계산 (첫 표본은 그대로 사용)
+     *
+     * @param average 이전 평균
+     * @param sample  표본
+     * @return 지수 이동 평균
+     */
+    private double ewma(double average, double sample) {
+        return average == 0 ? sample : ewmaAlpha * sample + (1 - ewmaAlpha) * average;
+    }
+}
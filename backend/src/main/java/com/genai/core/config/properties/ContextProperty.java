@@ -0,0 +1,27 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.context")
+public class ContextProperty {
+
+    // 답변 컨텍스트 최대 토큰 수 (모델 컨텍스트 한도 이내로 적용)
+    private int questionMaxTokens = 2000;
+
+    // 답변 컨텍스트 청크별 질의 관련 문장 유지 비율
+    private double chunkKeepRatio = 0.5;
+
+    // 답변 컨텍스트 청크별 최대 토큰 수
+    private int chunkMaxTokens = 800;
+
+    // 요약 / 보고서 병합 컨텍스트 최대 토큰 수 (모델 컨텍스트 한도 이내로 적용)
+    private int documentMaxTokens = 16000;
+}
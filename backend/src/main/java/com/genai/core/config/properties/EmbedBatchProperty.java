@@ -0,0 +1,23 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.embed.batch")
+public class EmbedBatchProperty {
+
+    private boolean enabled = true;
+
+    private int windowMs = 10;
+
+    private int maxBatchSize = 32;
+
+    private int maxConcurrency = 4;
+}
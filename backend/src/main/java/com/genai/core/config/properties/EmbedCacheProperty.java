@@ -0,0 +1,21 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.embed.cache")
+public class EmbedCacheProperty {
+
+    private boolean enabled = true;
+
+    private int maximumSize = 10000;
+
+    private int expireSeconds = 3600;
+}
@@ -25,6 +25,8 @@ public class EmbedProperty {
 
     private String path;
 
+    private String modelName = "";
+
     /**
      * 벡터 변환 요청 URL 조회
      *
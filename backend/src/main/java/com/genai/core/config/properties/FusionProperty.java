@@ -0,0 +1,27 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.search.fusion")
+public class FusionProperty {
+
+    private String type = "rrf";
+
+    private int rrfK = 60;
+
+    private double keywordWeight = 1.0;
+
+    private double vectorWeight = 1.0;
+
+    private int topN = 10;
+
+    private double minScore = 0.0;
+}
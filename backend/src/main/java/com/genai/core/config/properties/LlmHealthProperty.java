@@ -0,0 +1,31 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.llm.health")
+public class LlmHealthProperty {
+
+    private boolean probeEnabled = true;
+
+    private int probeIntervalMs = 10000;
+
+    private int probeTimeoutMs = 2000;
+
+    private int consecutiveErrors = 3;
+
+    private double latencySpikeRatio = 5.0;
+
+    private int baseEjectionMs = 30000;
+
+    private int maxEjectionMs = 300000;
+
+    private int maxRetries = 1;
+}
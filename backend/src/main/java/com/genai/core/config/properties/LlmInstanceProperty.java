@@ -45,12 +45,26 @@ public class LlmInstanceProperty {
 
     private int sessionCount = 100;
 
+    private int minSessionCount = 1;
+
+    private int maxSessionCount = 0;
+
     /**
      * LLM 요청 URL 조회
      *
      * @return LLM 요청 URL
      */
     public String getUrl() {
+        return this.getUrl(path);
+    }
+
+    /**
+     * LLM 요청 URL 조회
+     *
+     * @param path 요청 경로
+     * @return LLM 요청 URL
+     */
+    public String getUrl(String path) {
 
         StringBuilder url = new StringBuilder();
 
@@ -0,0 +1,23 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.llm.limit")
+public class LlmLimitProperty {
+
+    private boolean enabled = true;
+
+    private double latencyTolerance = 2.0;
+
+    private double backoffRatio = 0.9;
+
+    private double baselineAlpha = 0.05;
+}
@@ -14,6 +14,4 @@ import org.springframework.stereotype.Component;
 public class LlmRetryProperty {
 
     private int timeoutMs = 10;
-
-    private int delayMs = 500;
 }
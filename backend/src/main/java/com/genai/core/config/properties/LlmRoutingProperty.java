@@ -0,0 +1,25 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.llm.routing")
+public class LlmRoutingProperty {
+
+    private String type = "p2c";
+
+    private double ewmaAlpha = 0.3;
+
+    private int expectedOutputTokens = 256;
+
+    private boolean affinityEnabled = false;
+
+    private int affinityVirtualNodes = 100;
+}
@@ -0,0 +1,18 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.query-plan")
+public class QueryPlanProperty {
+
+    // 질의 계획 단일 요청 사용 여부 (미사용 시 질의 재작성 → 멀티턴 여부 판별 순차 요청)
+    private boolean enabled = true;
+}
@@ -0,0 +1,25 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.reranker.batch")
+public class RerankBatchProperty {
+
+    private boolean enabled = true;
+
+    private int maxTokens = 512;
+
+    private int batchSize = 4;
+
+    private int maxConcurrency = 2;
+
+    private int stablePatience = 1;
+}
@@ -23,6 +23,9 @@ public class SearchProperty {
 
     private int port;
 
+    // 검색 응답 최대 버퍼 크기 (byte)
+    private int maxInMemorySize = 10 * 1024 * 1024;
+
     /**
      * 검색 요청 URL 조회
      *
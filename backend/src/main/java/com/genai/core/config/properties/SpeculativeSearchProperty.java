@@ -0,0 +1,19 @@
+package com.genai.core.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.search.speculative")
+public class SpeculativeSearchProperty {
+
+    private boolean enabled = true;
+
+    private double similarityThreshold = 0.8;
+}
@@ -0,0 +1,28 @@
+package com.genai.core.config.properties;
+
+import com.genai.core.common.enums.TopicDetectType;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ToString
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "engine.topic-detect")
+public class TopicDetectProperty {
+
+    // 멀티턴 참고 대화 선택 유사도 임계값
+    private double relevantThreshold = 0.6;
+
+    // 토픽 변경 판단 유사도 임계값 (최대 유사도가 임계값 미만인 경우 토픽 변경)
+    private double changeThreshold = 0.4;
+
+    // 컬렉션 ID 별 토픽 판별 방식 (미지정 컬렉션은 컬렉션 기본값, 예: gen_ai: embedding)
+    private Map<String, TopicDetectType> collections = new HashMap<>();
+}
@@ -1,8 +1,19 @@
 package com.genai.core.exception;
 
+import lombok.Getter;
+
+@Getter
 public class ModelErrorException extends RuntimeException {
 
+    // Instance 장애 여부 (5xx 등 다른 Instance 재시도 대상)
+    private final boolean isInstanceFailure;
+
     public ModelErrorException(String message) {
+        this(message, false);
+    }
+
+    public ModelErrorException(String message, boolean isInstanceFailure) {
         super("모델 요청 처리중 오류가 발생했습니다 | " + message);
+        this.isInstanceFailure = isInstanceFailure;
     }
 }
@@ -2,6 +2,7 @@ package com.genai.core.repository;
 
 import com.genai.core.repository.entity.CollectionEntity;
 import com.genai.core.repository.entity.DocumentEntity;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +17,14 @@ public interface CollectionRepository {
      */
     Optional<CollectionEntity> findCollectionByCollectionId(String collectionId);
 
+    /**
+     * 컬렉션 조회
+     *
+     * @param collectionId 컬렉션 ID
+     * @return 컬렉션 Mono (컬렉션이 없는 경우 empty)
+     */
+    Mono<CollectionEntity> findCollectionByCollectionIdAsync(String collectionId);
+
     /**
      * 벡터 변환
      *
@@ -25,6 +34,15 @@ public interface CollectionRepository {
      */
     List<DocumentEntity> convertVector(String collectionId, List<DocumentEntity> documentEntities);
 
+    /**
+     * 벡터 변환
+     *
+     * @param collectionId     컬렉션 ID
+     * @param documentEntities 변환 대상 문서 목록
+     * @return 변환 완료 문서 목록 Mono
+     */
+    Mono<List<DocumentEntity>> convertVectorAsync(String collectionId, List<DocumentEntity> documentEntities);
+
     /**
      * 데이터 색인
      *
@@ -33,6 +51,15 @@ public interface CollectionRepository {
      */
     void createIndex(String collectionId, List<DocumentEntity> documentEntities);
 
+    /**
+     * 데이터 색인
+     *
+     * @param collectionId     컬렉션 ID
+     * @param documentEntities 색인 대상 문서 목록
+     * @return 색인 완료 Mono
+     */
+    Mono<Void> createIndexAsync(String collectionId, List<DocumentEntity> documentEntities);
+
     /**
      * 색인 데이터 삭제
      *
@@ -40,4 +67,13 @@ public interface CollectionRepository {
      * @param chunkIds     chunkId 목록
      */
     void deleteIndex(String collectionId, List<String> chunkIds);
+
+    /**
+     * 색인 데이터 삭제
+     *
+     * @param collectionId 컬렉션 ID
+     * @param chunkIds     chunkId 목록
+     * @return 삭제 완료 Mono
+     */
+    Mono<Void> deleteIndexAsync(String collectionId, List<String> chunkIds);
 }
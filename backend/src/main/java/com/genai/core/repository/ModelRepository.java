@@ -2,6 +2,7 @@ package com.genai.core.repository;
 
 import com.genai.core.repository.entity.AnswerEntity;
 import com.genai.core.repository.entity.PromptEntity;
+import com.genai.core.repository.vo.LlmOptionVO;
 import com.genai.core.service.module.vo.ConversationVO;
 import com.genai.core.common.enums.LlmType;
 import reactor.core.publisher.Flux;
@@ -11,6 +12,18 @@ import java.util.List;
 
 public interface ModelRepository {
 
+    /**
+     * 컨텍스트 최대 토큰 수 조회 (Pool 내 Instance 중 최소값)
+     *
+     * @param llmType       LLM 타입
+     * @param promptEntity  프롬 프트
+     * @param query         질의문
+     * @param chatState     대화 상태
+     * @param conversations 대화 이력 목록
+     * @return 컨텍스트 최대 토큰 수
+     */
+    int getContextTokenLimit(LlmType llmType, PromptEntity promptEntity, String query, String chatState, List<ConversationVO> conversations);
+
     /**
      * 답변 생성 요청
      *
@@ -85,4 +98,30 @@ public interface ModelRepository {
      * @return 답변 엔티티 Flux
      */
     Flux<AnswerEntity> generateStreamAnswerAsync(String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, LlmType llmType);
-}
\ No newline at end of file
+
+    /**
+     * 답변 생성 요청
+     *
+     * @param query         질의문
+     * @param context       검색 결과 데이터
+     * @param chatState     대화 상태
+     * @param conversations 대화 이력 목록
+     * @param promptEntity  프롬 프트
+     * @param llmOption     LLM 요청 옵션
+     * @return 답변 엔티티 목록 Mono
+     */
+    Mono<List<AnswerEntity>> generateAnswerAsync(String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, LlmOptionVO llmOption);
+
+    /**
+     * 답변 생성 요청
+     *
+     * @param query         질의문
+     * @param context       검색 결과 데이터
+     * @param chatState     대화 상태
+     * @param conversations 대화 이력 목록
+     * @param promptEntity  프롬 프트
+     * @param llmOption     LLM 요청 옵션
+     * @return 답변 엔티티 Flux
+     */
+    Flux<AnswerEntity> generateStreamAnswerAsync(String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, LlmOptionVO llmOption);
+}
@@ -1,9 +1,11 @@
 package com.genai.core.repository;
 
 import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.wrapper.HybridSearch;
 import com.genai.core.repository.wrapper.Rerank;
 import com.genai.core.repository.wrapper.Search;
 import com.genai.core.type.CollectionType;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -20,6 +22,17 @@ public interface SearchRepository {
      */
     <T extends DocumentEntity> List<Search<T>> keywordSearch(CollectionType collectionType, String query, int topK, List<String> aliases);
 
+    /**
+     * 키워드 검색 요청
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param topK           top K
+     * @param aliases        필터 코드 목록
+     * @return 키워드 검색 결과 목록 Mono
+     */
+    <T extends DocumentEntity> Mono<List<Search<T>>> keywordSearchAsync(CollectionType collectionType, String query, int topK, List<String> aliases);
+
     /**
      * 벡터 검색 요청
      *
@@ -31,6 +44,41 @@ public interface SearchRepository {
      */
     <T extends DocumentEntity> List<Search<T>> vectorSearch(CollectionType collectionType, String query, int topK, List<String> aliases);
 
+    /**
+     * 벡터 검색 요청
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param topK           top K
+     * @param aliases        필터 코드 목록
+     * @return 벡터 검색 결과 목록 Mono
+     */
+    <T extends DocumentEntity> Mono<List<Search<T>>> vectorSearchAsync(CollectionType collectionType, String query, int topK, List<String> aliases);
+
+    /**
+     * 하이브리드 검색 요청 (키워드 검색 + 벡터 검색 단일 _msearch 요청)
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param keywordTopK    키워드 검색 top K
+     * @param vectorTopK     벡터 검색 top K
+     * @param aliases        필터 코드 목록
+     * @return 하이브리드 검색 결과
+     */
+    <T extends DocumentEntity> HybridSearch<T> hybridSearch(CollectionType collectionType, String query, int keywordTopK, int vectorTopK, List<String> aliases);
+
+    /**
+     * 하이브리드 검색 요청 (키워드 검색 + 벡터 검색 단일 _msearch 요청)
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param keywordTopK    키워드 검색 top K
+     * @param vectorTopK     벡터 검색 top K
+     * @param aliases        필터 코드 목록
+     * @return 하이브리드 검색 결과 Mono
+     */
+    <T extends DocumentEntity> Mono<HybridSearch<T>> hybridSearchAsync(CollectionType collectionType, String query, int keywordTopK, int vectorTopK, List<String> aliases);
+
     /**
      * 검색 결과 리랭킹
      *
@@ -39,4 +87,21 @@ public interface SearchRepository {
      * @return 리랭킹 문서 목록
      */
     List<Rerank> rerank(String query, List<Rerank> documents);
-}
\ No newline at end of file
+
+    /**
+     * 검색 결과 리랭킹
+     *
+     * @param query     질의문
+     * @param documents 검색 문서 목록
+     * @return 리랭킹 문서 목록 Mono
+     */
+    Mono<List<Rerank>> rerankAsync(String query, List<Rerank> documents);
+
+    /**
+     * 질의문 벡터 변환 (캐시 우선 조회)
+     *
+     * @param query 질의문
+     * @return 질의문 벡터 Mono
+     */
+    Mono<float[]> convertQueryVectorAsync(String query);
+}
@@ -0,0 +1,185 @@
+package com.genai.core.repository.batch;
+
+import com.genai.core.config.properties.EmbedBatchProperty;
+import com.genai.core.config.properties.EmbedProperty;
+import com.genai.core.exception.SearchErrorException;
+import com.genai.core.repository.vo.ConvertVectorVO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.*;
+
+@Slf4j
+@Component
+public class QueryVectorBatcher {
+
+    private final WebClient embedWebClient;
+    private final EmbedProperty embedProperty;
+    private final EmbedBatchProperty embedBatchProperty;
+    private final Sinks.Many<PendingRequest> requestSink = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable subscription;
+
+    public QueryVectorBatcher(
+            @Qualifier("embedWebClient") WebClient embedWebClient,
+            EmbedProperty embedProperty,
+            EmbedBatchProperty embedBatchProperty
+    ) {
+        this.embedWebClient = embedWebClient;
+        this.embedProperty = embedProperty;
+        this.embedBatchProperty = embedBatchProperty;
+
+        // 일정 시간 (windowMs) 또는 최대 배치 크기 단위로 요청을 모아 한번에 전송
+        this.subscription = requestSink.asFlux()
+                .bufferTimeout(embedBatchProperty.getMaxBatchSize(), Duration.ofMillis(embedBatchProperty.getWindowMs()))
+                .onBackpressureBuffer()
+                .flatMap(this::flush, embedBatchProperty.getMaxConcurrency())
+                .subscribe();
+    }
+
+    /**
+     * 질의문 벡터 변환 요청 (동시 요청 병합)
+     *
+     * @param query 질의문
+     * @return 질의문 벡터 Mono
+     */
+    public Mono<float[]> convert(String query) {
+
+        if (!embedBatchProperty.isEnabled()) {
+            return this.request(List.of(query))
+                    .mapNotNull(vectors -> vectors.get(query))
+                    .switchIfEmpty(Mono.error(() -> new SearchErrorException("질의문 벡터 변환 결과 누락")));
+        }
+
+        return Mono.create(sink -> {
+            PendingRequest pendingRequest = new PendingRequest(query, sink);
+            sink.onCancel(pendingRequest::cancel);
+
+            Sinks.EmitResult emitResult;
+            synchronized (requestSink) {
+                emitResult = requestSink.tryEmitNext(pendingRequest);
+            }
+
+            if (emitResult.isFailure()) {
+                sink.error(new SearchErrorException("질의문 벡터 변환 요청 등록 실패 (" + emitResult + ")"));
+            }
+        });
+    }
+
+    /**
+     * 모아진 요청 일괄 전송 및 결과 분배
+     *
+     * @param pendingRequests 대기 요청 목록
+     * @return 완료 Mono
+     */
+    private Mono<Void> flush(List<PendingRequest> pendingRequests) {
+
+        // 취소된 요청 제외
+        List<PendingRequest> activeRequests = pendingRequests.stream()
+                .filter(pendingRequest -> !pendingRequest.isCancelled())
+                .toList();
+
+        if (activeRequests.isEmpty()) {
+            return Mono.empty();
+        }
+
+        // 동일 질의문 중복 제거
+        List<String> queries = activeRequests.stream()
+                .map(PendingRequest::getQuery)
+                .distinct()
+                .toList();
+
+        log.debug("[embed] query vector batch | requests: {} | queries: {}", activeRequests.size(), queries.size());
+
+        return this.request(queries)
+                .doOnNext(vectors -> activeRequests.forEach(pendingRequest -> {
+                    float[] vector = vectors.get(pendingRequest.getQuery());
+
+                    if (vector != null) {
+                        // 동일 질의문 요청 간 배열 공유 방지
+                        pendingRequest.getSink().success(vector.clone());
+                    } else {
+                        pendingRequest.getSink().error(new SearchErrorException("질의문 벡터 변환 결과 누락"));
+                    }
+                }))
+                .doOnError(throwable -> activeRequests.forEach(pendingRequest -> pendingRequest.getSink().error(throwable)))
+                .onErrorResume(throwable -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * 질의문 벡터 변환 요청 (임베딩 서버)
+     *
+     * @param queries 질의문 목록
+     * @return 질의문 별 벡터 Mono
+     */
+    private Mono<Map<String, float[]>> request(List<String> queries) {
+
+        List<ConvertVectorVO> convertVectorVos = new ArrayList<>();
+        for (int index = 0; index < queries.size(); index++) {
+            convertVectorVos.add(ConvertVectorVO.builder()
+                    .id((long) index)
+                    .content(queries.get(index))
+                    .build());
+        }
+
+        return embedWebClient.post()
+                .uri(embedProperty.getUrl())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(convertVectorVos)
+                .retrieve()
+                .onStatus(HttpStatus::isError, response ->
+                        response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                                })
+                                .flatMap(errorBody -> Mono.error(new SearchErrorException("질의문 벡터 변환 실패 (" + response.statusCode() + ")")))
+                )
+                .bodyToMono(new ParameterizedTypeReference<List<ConvertVectorVO>>() {
+                })
+                .switchIfEmpty(Mono.error(() -> new SearchErrorException("질의문 벡터 변환 응답 바디 조회 실패")))
+                .map(convertedVectorVos -> {
+                    Map<String, float[]> vectors = new HashMap<>();
+
+                    convertedVectorVos.forEach(convertVectorVo -> {
+                        if (convertVectorVo.getId() != null && convertVectorVo.getVector() != null
+                                && convertVectorVo.getId() >= 0 && convertVectorVo.getId() < queries.size()) {
+                            vectors.put(queries.get(convertVectorVo.getId().intValue()), convertVectorVo.getVector());
+                        }
+                    });
+
+                    return vectors;
+                });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        subscription.dispose();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingRequest {
+
+        private final String query;
+
+        private final MonoSink<float[]> sink;
+
+        private volatile boolean cancelled;
+
+        private void cancel() {
+            this.cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.genai.core.repository.cache;
+
+import com.genai.core.config.properties.AnswerCacheProperty;
+import com.genai.core.repository.wrapper.Rerank;
+import com.genai.global.common.utils.StringUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class AnswerCache {
+
+    private static final String CACHE_NAME = "question.answer";
+
+    private final AnswerCacheProperty answerCacheProperty;
+    private final IndexVersionRegistry indexVersionRegistry;
+    private final Cache<Key, Entry> cache;
+
+    public AnswerCache(AnswerCacheProperty answerCacheProperty, IndexVersionRegistry indexVersionRegistry, MeterRegistry meterRegistry) {
+        this.answerCacheProperty = answerCacheProperty;
+        this.indexVersionRegistry = indexVersionRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(answerCacheProperty.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(answerCacheProperty.getExpireSeconds()))
+                .recordStats()
+                .build();
+
+        // hit / miss / eviction 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    /**
+     * 답변 캐시 사용 여부
+     *
+     * @return 답변 캐시 사용 여부
+     */
+    public boolean isEnabled() {
+        return answerCacheProperty.isEnabled();
+    }
+
+    /**
+     * 답변 조회
+     *
+     * @param collectionId  컬렉션 ID
+     * @param categoryCodes 카테고리 코드 목록
+     * @param promptId      프롬프트 ID
+     * @param query         질의문
+     * @return 캐시 답변
+     */
+    public Optional<Entry> get(String collectionId, List<String> categoryCodes, long promptId, String query) {
+
+        if (!this.isEnabled()) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(cache.getIfPresent(this.createKey(collectionId, categoryCodes, promptId, query)));
+    }
+
+    /**
+     * 답변 적재
+     *
+     * @param collectionId  컬렉션 ID
+     * @param categoryCodes 카테고리 코드 목록
+     * @param promptId      프롬프트 ID
+     * @param query         질의문
+     * @param entry         캐시 답변
+     */
+    public void put(String collectionId, List<String> categoryCodes, long promptId, String query, Entry entry) {
+
+        if (!this.isEnabled()) {
+            return;
+        }
+
+        cache.put(this.createKey(collectionId, categoryCodes, promptId, query), entry);
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 캐시 키 생성 (카테고리별 색인 버전 포함, 카테고리 동기화 시 기존 키 미사용)
+     *
+     * @param collectionId  컬렉션 ID
+     * @param categoryCodes 카테고리 코드 목록
+     * @param promptId      프롬프트 ID
+     * @param query         질의문
+     * @return 캐시 키
+     */
+    private Key createKey(String collectionId, List<String> categoryCodes, long promptId, String query) {
+
+        List<String> categoryVersions = categoryCodes.stream()
+                .sorted()
+                .map(categoryCode -> categoryCode + ":" + indexVersionRegistry.getVersion(categoryCode))
+                .toList();
+
+        return new Key(collectionId, categoryVersions, promptId, StringUtil.normalizeQuery(query));
+    }
+
+    private record Key(String collectionId, List<String> categoryVersions, long promptId, String query) {}
+
+    public record Entry(String answer, List<Rerank> reranks) {}
+}
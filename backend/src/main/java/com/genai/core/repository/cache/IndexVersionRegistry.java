@@ -0,0 +1,37 @@
+package com.genai.core.repository.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class IndexVersionRegistry {
+
+    // 카테고리 코드별 색인 버전
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 카테고리 색인 버전 조회
+     *
+     * @param categoryCode 카테고리 코드
+     * @return 색인 버전
+     */
+    public long getVersion(String categoryCode) {
+        AtomicLong version = versions.get(String.valueOf(categoryCode));
+        return version == null ? 0L : version.get();
+    }
+
+    /**
+     * 카테고리 색인 버전 증가 (색인 변경 시 해당 카테고리 캐시 무효화)
+     *
+     * @param categoryCode 카테고리 코드
+     */
+    public void increaseVersion(String categoryCode) {
+        long version = versions.computeIfAbsent(String.valueOf(categoryCode), key -> new AtomicLong()).incrementAndGet();
+        log.info("[cache] index version increased | {} → {}", categoryCode, version);
+    }
+}
@@ -0,0 +1,83 @@
+package com.genai.core.repository.cache;
+
+import com.genai.core.config.properties.EmbedCacheProperty;
+import com.genai.core.config.properties.EmbedProperty;
+import com.genai.global.common.utils.StringUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class QueryVectorCache {
+
+    private static final String CACHE_NAME = "embed.query.vector";
+
+    private final EmbedProperty embedProperty;
+    private final EmbedCacheProperty embedCacheProperty;
+    private final Cache<Key, float[]> cache;
+
+    public QueryVectorCache(EmbedProperty embedProperty, EmbedCacheProperty embedCacheProperty, MeterRegistry meterRegistry) {
+        this.embedProperty = embedProperty;
+        this.embedCacheProperty = embedCacheProperty;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(embedCacheProperty.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(embedCacheProperty.getExpireSeconds()))
+                .recordStats()
+                .build();
+
+        // hit / miss / eviction 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    /**
+     * 질의문 벡터 조회 (캐시 미스 시 loader 를 통해 변환 후 적재)
+     * 캐시 배열 공유 방지를 위해 복사본 반환
+     *
+     * @param query  질의문
+     * @param loader 벡터 변환 함수
+     * @return 질의문 벡터 Mono
+     */
+    public Mono<float[]> get(String query, Function<String, Mono<float[]>> loader) {
+
+        if (!embedCacheProperty.isEnabled()) {
+            return loader.apply(query);
+        }
+
+        return Mono.defer(() -> {
+            Key key = new Key(embedProperty.getModelName(), StringUtil.normalizeQuery(query));
+            float[] vector = cache.getIfPresent(key);
+
+            return vector != null
+                    ? Mono.just(vector.clone())
+                    : loader.apply(query).doOnNext(loadedVector -> cache.put(key, loadedVector.clone()));
+        });
+    }
+
+    /**
+     * 캐시 전체 삭제 (동일 모델명으로 임베딩 모델 재배포 시)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.info("[cache] {} invalidated | {}", CACHE_NAME, embedProperty.getModelName());
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private record Key(String modelName, String query) {}
+}
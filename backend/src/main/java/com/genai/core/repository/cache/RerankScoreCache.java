@@ -0,0 +1,94 @@
+package com.genai.core.repository.cache;
+
+import com.genai.core.config.properties.RerankCacheProperty;
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.global.common.utils.StringUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class RerankScoreCache {
+
+    private static final String CACHE_NAME = "reranker.score";
+
+    private final RerankCacheProperty rerankCacheProperty;
+    private final IndexVersionRegistry indexVersionRegistry;
+    private final Cache<Key, Double> cache;
+
+    public RerankScoreCache(RerankCacheProperty rerankCacheProperty, IndexVersionRegistry indexVersionRegistry, MeterRegistry meterRegistry) {
+        this.rerankCacheProperty = rerankCacheProperty;
+        this.indexVersionRegistry = indexVersionRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(rerankCacheProperty.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(rerankCacheProperty.getExpireSeconds()))
+                .recordStats()
+                .build();
+
+        // hit / miss / eviction 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    /**
+     * 리랭킹 점수 조회
+     *
+     * @param query    질의문
+     * @param document 문서
+     * @return 리랭킹 점수 (캐시 미스 시 null)
+     */
+    public Double get(String query, DocumentEntity document) {
+
+        if (!rerankCacheProperty.isEnabled()) {
+            return null;
+        }
+
+        return cache.getIfPresent(this.createKey(query, document));
+    }
+
+    /**
+     * 리랭킹 점수 적재
+     *
+     * @param query    질의문
+     * @param document 문서
+     * @param score    리랭킹 점수
+     */
+    public void put(String query, DocumentEntity document, double score) {
+
+        if (!rerankCacheProperty.isEnabled()) {
+            return;
+        }
+
+        cache.put(this.createKey(query, document), score);
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 캐시 키 생성 (카테고리 색인 버전 포함, 버전 증가 시 기존 키 미사용)
+     *
+     * @param query    질의문
+     * @param document 문서
+     * @return 캐시 키
+     */
+    private Key createKey(String query, DocumentEntity document) {
+        return new Key(
+                document.getCategoryCode(),
+                indexVersionRegistry.getVersion(document.getCategoryCode()),
+                StringUtil.normalizeQuery(query),
+                document.getChunkId());
+    }
+
+    private record Key(String categoryCode, long version, String query, Long chunkId) {}
+}
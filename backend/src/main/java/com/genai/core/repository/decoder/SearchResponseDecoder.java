@@ -0,0 +1,97 @@
+package com.genai.core.repository.decoder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.genai.core.config.properties.SearchProperty;
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.response.MultiSearchResponse;
+import com.genai.core.repository.response.SearchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class SearchResponseDecoder {
+
+    private final ObjectMapper objectMapper;
+    private final SearchProperty searchProperty;
+
+    // 매핑 클래스별 ObjectReader (타입 생성 및 역직렬화기 탐색 1회)
+    private final Map<Class<?>, ObjectReader> searchResponseReaders = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> multiSearchResponseReaders = new ConcurrentHashMap<>();
+
+    /**
+     * 검색 응답 디코딩
+     *
+     * @param body         응답 바디 버퍼 스트림
+     * @param mappingClass 문서 매핑 클래스
+     * @return 검색 응답 Mono
+     */
+    public <T extends DocumentEntity> Mono<SearchResponse<T>> decodeSearchResponse(Flux<DataBuffer> body, Class<?> mappingClass) {
+        return this.decode(body, searchResponseReaders.computeIfAbsent(mappingClass, this::createSearchResponseReader));
+    }
+
+    /**
+     * 멀티 검색 응답 디코딩
+     *
+     * @param body         응답 바디 버퍼 스트림
+     * @param mappingClass 문서 매핑 클래스
+     * @return 멀티 검색 응답 Mono
+     */
+    public <T extends DocumentEntity> Mono<MultiSearchResponse<T>> decodeMultiSearchResponse(Flux<DataBuffer> body, Class<?> mappingClass) {
+        return this.decode(body, multiSearchResponseReaders.computeIfAbsent(mappingClass, this::createMultiSearchResponseReader));
+    }
+
+    /**
+     * 응답 바디 버퍼를 병합 후 문자열 변환 없이 바이트 스트림에서 바로 역직렬화
+     *
+     * @param body   응답 바디 버퍼 스트림
+     * @param reader ObjectReader
+     * @return 역직렬화 결과 Mono
+     */
+    private <R> Mono<R> decode(Flux<DataBuffer> body, ObjectReader reader) {
+        return DataBufferUtils.join(body, searchProperty.getMaxInMemorySize())
+                .map(dataBuffer -> {
+                    // 버퍼는 스트림 종료 시 반환
+                    try (InputStream inputStream = dataBuffer.asInputStream(true)) {
+                        return reader.<R>readValue(inputStream);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * 검색 응답 ObjectReader 생성
+     *
+     * @param mappingClass 문서 매핑 클래스
+     * @return ObjectReader
+     */
+    private ObjectReader createSearchResponseReader(Class<?> mappingClass) {
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(SearchResponse.class, mappingClass);
+        return objectMapper.readerFor(type);
+    }
+
+    /**
+     * 멀티 검색 응답 ObjectReader 생성
+     *
+     * @param mappingClass 문서 매핑 클래스
+     * @return ObjectReader
+     */
+    private ObjectReader createMultiSearchResponseReader(Class<?> mappingClass) {
+        JavaType searchResponseType = objectMapper.getTypeFactory().constructParametricType(SearchResponse.class, mappingClass);
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(MultiSearchResponse.class, searchResponseType);
+        return objectMapper.readerFor(type);
+    }
+}
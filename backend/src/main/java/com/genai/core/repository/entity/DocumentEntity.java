@@ -4,8 +4,6 @@ import com.fasterxml.jackson.annotation.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @ToString
 @Builder
@@ -73,7 +71,8 @@ public class DocumentEntity {
     @JsonAlias("vector-context")
     @JsonProperty("vector-context")
     @JsonInclude(JsonInclude.Include.NON_NULL)
-    private List<Float> contextVector = new ArrayList<>();
+    @ToString.Exclude
+    private float[] contextVector = new float[0];
 
     @JsonAlias("url")
     @JsonProperty("url")
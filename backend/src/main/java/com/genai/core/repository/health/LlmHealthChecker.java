@@ -0,0 +1,76 @@
+package com.genai.core.repository.health;
+
+import com.genai.core.common.enums.LlmType;
+import com.genai.core.config.instance.LlmInstance;
+import com.genai.core.config.properties.LlmHealthProperty;
+import com.genai.core.config.properties.LlmInstanceProperty;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class LlmHealthChecker {
+
+    private final LlmHealthProperty llmHealthProperty;
+    private final Disposable subscription;
+
+    public LlmHealthChecker(Map<LlmType, List<LlmInstance>> llmInstanceMap, LlmHealthProperty llmHealthProperty) {
+        this.llmHealthProperty = llmHealthProperty;
+
+        List<LlmInstance> instances = llmInstanceMap.values().stream()
+                .flatMap(Collection::stream)
+                .toList();
+
+        // 일정 주기 (probeIntervalMs) 로 전체 Instance 상태 점검
+        this.subscription = llmHealthProperty.isProbeEnabled() && !instances.isEmpty()
+                ? Flux.interval(Duration.ofMillis(llmHealthProperty.getProbeIntervalMs()))
+                        .onBackpressureDrop()
+                        .concatMap(tick -> Flux.fromIterable(instances)
+                                .flatMap(this::probe)
+                                .then())
+                        .subscribe()
+                : null;
+    }
+
+    /**
+     * Instance 상태 점검
+     *
+     * @param instance LLM Instance
+     * @return 점검 완료 Mono
+     */
+    private Mono<Void> probe(LlmInstance instance) {
+
+        LlmInstanceProperty llmInstanceProperty = instance.getLlmInstanceProperty();
+        String url = llmInstanceProperty.getUrl(instance.getPlatformType().getHealthPath());
+
+        return instance.getWebClient().get()
+                .uri(url)
+                .header("Authorization", "Bearer " + llmInstanceProperty.getApiKey())
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(Duration.ofMillis(llmHealthProperty.getProbeTimeoutMs()))
+                .map(response -> true)
+                .onErrorResume(throwable -> {
+                    log.warn("[model] {} | health probe failed | {}", instance.getInstanceId(), throwable.getMessage());
+                    return Mono.just(false);
+                })
+                .doOnNext(isHealthy -> instance.getHealth().onProbe(isHealthy))
+                .then();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
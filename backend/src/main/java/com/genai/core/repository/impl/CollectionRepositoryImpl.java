@@ -21,12 +21,11 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,6 +35,9 @@ import java.util.stream.Collectors;
 @Component
 public class CollectionRepositoryImpl implements CollectionRepository {
 
+    // 벌크 요청 배치 크기
+    private static final int BULK_BATCH_SIZE = 500;
+
     private final WebClient collectionWebClient;
     private final WebClient indexerWebClient;
     private final WebClient embedWebClient;
@@ -70,34 +72,36 @@ public class CollectionRepositoryImpl implements CollectionRepository {
      */
     @Override
     public Optional<CollectionEntity> findCollectionByCollectionId(String collectionId) {
+        return this.findCollectionByCollectionIdAsync(collectionId)
+                .blockOptional();
+    }
 
-        ResponseEntity<Map<String, Object>> responseEntity = collectionWebClient.get()
+    /**
+     * 컬렉션 조회
+     *
+     * @param collectionId 컬렉션 ID
+     * @return 컬렉션 Mono (컬렉션이 없는 경우 empty)
+     */
+    @Override
+    public Mono<CollectionEntity> findCollectionByCollectionIdAsync(String collectionId) {
+        return collectionWebClient.get()
                 .uri(collectionProperty.getUrl() + "/" + collectionId)
                 .accept(MediaType.APPLICATION_JSON)
-                .exchangeToMono(response -> response
-                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                .exchangeToMono(response -> response.statusCode().is2xxSuccessful()
+                        ? response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
                         })
-                        .map(body -> new ResponseEntity<>(body, response.statusCode())))
-                .block();
-
-        if (responseEntity == null || !responseEntity.getStatusCode().is2xxSuccessful()) {
-            return Optional.empty();
-        }
-
-        Map<String, Object> responseBody = responseEntity.getBody();
-
-        if (responseBody == null || !responseBody.containsKey(collectionId)) {
-            return Optional.empty();
-        }
-
-        GetCollectionResponse getCollectionResponse = objectMapper.convertValue(responseBody.get(collectionId), GetCollectionResponse.class);
-
-        return Optional.of(CollectionEntity.builder()
-                .collectionId(collectionId)
-                .numOfShards(Integer.parseInt(getCollectionResponse.getSettings().getIndex().getNumberOfShards()))
-                .numOfReplication(Integer.parseInt(getCollectionResponse.getSettings().getIndex().getNumberOfReplicas()))
-                .fields(getCollectionResponse.getMappings().getProperties().keySet().stream().toList())
-                .build());
+                        : response.releaseBody().then(Mono.empty()))
+                .filter(responseBody -> responseBody.containsKey(collectionId))
+                .map(responseBody -> {
+                    GetCollectionResponse getCollectionResponse = objectMapper.convertValue(responseBody.get(collectionId), GetCollectionResponse.class);
+
+                    return CollectionEntity.builder()
+                            .collectionId(collectionId)
+                            .numOfShards(Integer.parseInt(getCollectionResponse.getSettings().getIndex().getNumberOfShards()))
+                            .numOfReplication(Integer.parseInt(getCollectionResponse.getSettings().getIndex().getNumberOfReplicas()))
+                            .fields(getCollectionResponse.getMappings().getProperties().keySet().stream().toList())
+                            .build();
+                });
     }
 
     /**
@@ -109,8 +113,21 @@ public class CollectionRepositoryImpl implements CollectionRepository {
      */
     @Override
     public List<DocumentEntity> convertVector(String collectionId, List<DocumentEntity> documentEntities) {
+        return this.convertVectorAsync(collectionId, documentEntities)
+                .block();
+    }
+
+    /**
+     * 벡터 변환
+     *
+     * @param collectionId     컬렉션 ID
+     * @param documentEntities 변환 대상 문서 목록
+     * @return 변환 완료 문서 목록 Mono
+     */
+    @Override
+    public Mono<List<DocumentEntity>> convertVectorAsync(String collectionId, List<DocumentEntity> documentEntities) {
 
-        if (documentEntities.isEmpty()) return documentEntities;
+        if (documentEntities.isEmpty()) return Mono.just(documentEntities);
 
         List<ConvertVectorVO> convertVectorVos = documentEntities.stream()
                 .map(documentEntity -> ConvertVectorVO.builder()
@@ -119,7 +136,7 @@ public class CollectionRepositoryImpl implements CollectionRepository {
                         .build())
                 .toList();
 
-        convertVectorVos = embedWebClient.post()
+        return embedWebClient.post()
                 .uri(embedProperty.getUrl())
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
@@ -132,19 +149,19 @@ public class CollectionRepositoryImpl implements CollectionRepository {
                 )
                 .bodyToMono(new ParameterizedTypeReference<List<ConvertVectorVO>>() {
                 })
-                .blockOptional()
-                .orElseThrow(() -> new CollectionErrorException(collectionId));
-
-        Map<Long, ConvertVectorVO> convertVectorVoMap = convertVectorVos.stream()
-                .collect(Collectors.toMap(ConvertVectorVO::getId, convertVectorVo -> convertVectorVo));
-
-        return documentEntities.stream()
-                .peek(documentEntity -> {
-                    ConvertVectorVO convertVectorVo = convertVectorVoMap.get(documentEntity.getChunkId());
-                    List<Float> vector = convertVectorVo != null ? convertVectorVo.getVector() : Collections.emptyList();
-                    documentEntity.setContextVector(vector);
-                })
-                .toList();
+                .switchIfEmpty(Mono.error(() -> new CollectionErrorException(collectionId)))
+                .map(convertedVectorVos -> {
+                    Map<Long, ConvertVectorVO> convertVectorVoMap = convertedVectorVos.stream()
+                            .collect(Collectors.toMap(ConvertVectorVO::getId, convertVectorVo -> convertVectorVo));
+
+                    return documentEntities.stream()
+                            .peek(documentEntity -> {
+                                ConvertVectorVO convertVectorVo = convertVectorVoMap.get(documentEntity.getChunkId());
+                                float[] vector = convertVectorVo != null && convertVectorVo.getVector() != null ? convertVectorVo.getVector() : new float[0];
+                                documentEntity.setContextVector(vector);
+                            })
+                            .toList();
+                });
     }
 
     /**
@@ -155,53 +172,65 @@ public class CollectionRepositoryImpl implements CollectionRepository {
      */
     @Override
     public void createIndex(String collectionId, List<DocumentEntity> documentEntities) {
+        this.createIndexAsync(collectionId, documentEntities)
+                .block();
+    }
 
-        if (documentEntities.isEmpty()) return;
+    /**
+     * 색인 생성
+     *
+     * @param collectionId     컬렉션 ID
+     * @param documentEntities 색인 대상 문서 목록
+     * @return 색인 완료 Mono
+     */
+    @Override
+    public Mono<Void> createIndexAsync(String collectionId, List<DocumentEntity> documentEntities) {
 
-        int batchSize = 500;
-        for (int batchIndex = 0; batchIndex < documentEntities.size(); batchIndex += batchSize) {
-            StringBuilder requestBodyJsonBuilder = new StringBuilder();
+        if (documentEntities.isEmpty()) return Mono.empty();
 
-            for (int documentIndex = batchIndex; documentIndex < Math.min(documentEntities.size(), batchIndex + batchSize); documentIndex++) {
-                try {
-                    DocumentEntity documentEntity = documentEntities.get(documentIndex);
+        return Flux.fromIterable(documentEntities)
+                .buffer(BULK_BATCH_SIZE)
+                .map(batchDocumentEntities -> {
+                    StringBuilder requestBodyJsonBuilder = new StringBuilder();
 
-                    CreateIndexBulkRequest createIndexBulkRequest = CreateIndexBulkRequest.builder()
-                            .index(CreateIndexBulkRequest.Index.builder()
-                                    .collectionId(collectionId)
-                                    .id(String.valueOf(documentEntity.getChunkId()))
-                                    .build())
-                            .build();
+                    for (DocumentEntity documentEntity : batchDocumentEntities) {
+                        try {
+                            CreateIndexBulkRequest createIndexBulkRequest = CreateIndexBulkRequest.builder()
+                                    .index(CreateIndexBulkRequest.Index.builder()
+                                            .collectionId(collectionId)
+                                            .id(String.valueOf(documentEntity.getChunkId()))
+                                            .build())
+                                    .build();
+
+                            String createIndexBulkRequestJson = objectMapper.writeValueAsString(createIndexBulkRequest);
+                            String documentEntityJson = objectMapper.writeValueAsString(documentEntity);
+
+                            requestBodyJsonBuilder.append(createIndexBulkRequestJson).append("\n");
+                            requestBodyJsonBuilder.append(documentEntityJson).append("\n");
 
-                    String createIndexBulkRequestJson = objectMapper.writeValueAsString(createIndexBulkRequest);
-                    String documentEntityJson = objectMapper.writeValueAsString(documentEntity);
-
-                    requestBodyJsonBuilder.append(createIndexBulkRequestJson).append("\n");
-                    requestBodyJsonBuilder.append(documentEntityJson).append("\n");
-
-                } catch (JsonProcessingException ignored) {
-                }
-            }
-
-            CreateIndexBulkResponse responseBody = indexerWebClient.put()
-                    .uri(indexerProperty.getUrl() + "/_bulk")
-                    .contentType(MediaType.APPLICATION_NDJSON)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBodyJsonBuilder.toString())
-                    .retrieve()
-                    .onStatus(HttpStatus::isError, response ->
-                            response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-                                    })
-                                    .flatMap(errorBody -> Mono.error(new CollectionErrorException("데이터 색인 실패 (" + collectionId + ")")))
-                    )
-                    .bodyToMono(CreateIndexBulkResponse.class)
-                    .blockOptional()
-                    .orElseThrow(() -> new CollectionErrorException("데이터 색인 실패 (" + collectionId + ")"));
-
-            if (responseBody.getErrors()) {
-                throw new CollectionErrorException("데이터 색인 실패 (" + collectionId + ")");
-            }
-        }
+                        } catch (JsonProcessingException ignored) {
+                        }
+                    }
+
+                    return requestBodyJsonBuilder.toString();
+                })
+                .concatMap(requestBody -> indexerWebClient.put()
+                        .uri(indexerProperty.getUrl() + "/_bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .onStatus(HttpStatus::isError, response ->
+                                response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                                        })
+                                        .flatMap(errorBody -> Mono.error(new CollectionErrorException("데이터 색인 실패 (" + collectionId + ")")))
+                        )
+                        .bodyToMono(CreateIndexBulkResponse.class)
+                        .switchIfEmpty(Mono.error(() -> new CollectionErrorException("데이터 색인 실패 (" + collectionId + ")")))
+                        .flatMap(responseBody -> responseBody.getErrors()
+                                ? Mono.error(new CollectionErrorException("데이터 색인 실패 (" + collectionId + ")"))
+                                : Mono.just(responseBody)))
+                .then();
     }
 
     /**
@@ -212,47 +241,61 @@ public class CollectionRepositoryImpl implements CollectionRepository {
      */
     @Override
     public void deleteIndex(String collectionId, List<String> chunkIds) {
+        this.deleteIndexAsync(collectionId, chunkIds)
+                .block();
+    }
+
+    /**
+     * 색인 데이터 삭제
+     *
+     * @param collectionId 컬렉션 ID
+     * @param chunkIds     chunkId 목록
+     * @return 삭제 완료 Mono
+     */
+    @Override
+    public Mono<Void> deleteIndexAsync(String collectionId, List<String> chunkIds) {
 
-        if (chunkIds.isEmpty()) return;
+        if (chunkIds.isEmpty()) return Mono.empty();
 
-        int batchSize = 500;
-        for (int batchIndex = 0; batchIndex < chunkIds.size(); batchIndex += batchSize) {
-            StringBuilder requestBodyJsonBuilder = new StringBuilder();
+        return Flux.fromIterable(chunkIds)
+                .buffer(BULK_BATCH_SIZE)
+                .map(batchChunkIds -> {
+                    StringBuilder requestBodyJsonBuilder = new StringBuilder();
 
-            for (int chunkIdIndex = batchIndex; chunkIdIndex < Math.min(chunkIds.size(), batchIndex + batchSize); chunkIdIndex++) {
-                try {
-                    DeleteIndexBulkRequest deleteIndexBulkRequest = DeleteIndexBulkRequest.builder()
-                            .delete(DeleteIndexBulkRequest.Delete.builder()
-                                    .id(String.valueOf(chunkIds.get(chunkIdIndex)))
-                                    .build())
-                            .build();
+                    for (String chunkId : batchChunkIds) {
+                        try {
+                            DeleteIndexBulkRequest deleteIndexBulkRequest = DeleteIndexBulkRequest.builder()
+                                    .delete(DeleteIndexBulkRequest.Delete.builder()
+                                            .id(String.valueOf(chunkId))
+                                            .build())
+                                    .build();
+
+                            String deleteIndexBulkRequestJson = objectMapper.writeValueAsString(deleteIndexBulkRequest);
 
-                    String deleteIndexBulkRequestJson = objectMapper.writeValueAsString(deleteIndexBulkRequest);
-
-                    requestBodyJsonBuilder.append(deleteIndexBulkRequestJson).append("\n");
-
-                } catch (JsonProcessingException ignored) {
-                }
-            }
-
-            DeleteIndexBulkResponse responseBody = indexerWebClient.post()
-                    .uri(indexerProperty.getUrl() + "/" + collectionId + "/_bulk")
-                    .contentType(MediaType.APPLICATION_NDJSON)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBodyJsonBuilder.toString())
-                    .retrieve()
-                    .onStatus(HttpStatus::isError, response ->
-                            response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-                                    })
-                                    .flatMap(errorBody -> Mono.error(new CollectionErrorException("데이터 색인 삭제 실패 (" + collectionId + ")")))
-                    )
-                    .bodyToMono(DeleteIndexBulkResponse.class)
-                    .blockOptional()
-                    .orElseThrow(() -> new CollectionErrorException("데이터 색인 삭제 실패 (" + collectionId + ")"));
-
-            if (responseBody.getErrors()) {
-                throw new CollectionErrorException("데이터 색인 삭제 실패 (" + collectionId + ")");
-            }
-        }
+                            requestBodyJsonBuilder.append(deleteIndexBulkRequestJson).append("\n");
+
+                        } catch (JsonProcessingException ignored) {
+                        }
+                    }
+
+                    return requestBodyJsonBuilder.toString();
+                })
+                .concatMap(requestBody -> indexerWebClient.post()
+                        .uri(indexerProperty.getUrl() + "/" + collectionId + "/_bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .onStatus(HttpStatus::isError, response ->
+                                response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                                        })
+                                        .flatMap(errorBody -> Mono.error(new CollectionErrorException("데이터 색인 삭제 실패 (" + collectionId + ")")))
+                        )
+                        .bodyToMono(DeleteIndexBulkResponse.class)
+                        .switchIfEmpty(Mono.error(() -> new CollectionErrorException("데이터 색인 삭제 실패 (" + collectionId + ")")))
+                        .flatMap(responseBody -> responseBody.getErrors()
+                                ? Mono.error(new CollectionErrorException("데이터 색인 삭제 실패 (" + collectionId + ")"))
+                                : Mono.just(responseBody)))
+                .then();
     }
-}
\ No newline at end of file
+}
@@ -5,27 +5,40 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.genai.core.common.enums.CoreLogMessage;
 import com.genai.global.common.utils.StringUtil;
 import com.genai.core.config.instance.LlmInstance;
+import com.genai.core.config.instance.LlmInstancePool;
+import com.genai.core.config.properties.LlmHealthProperty;
 import com.genai.core.config.properties.LlmInstanceProperty;
 import com.genai.core.config.properties.LlmRetryProperty;
 import com.genai.core.exception.ModelErrorException;
 import com.genai.core.repository.ModelRepository;
 import com.genai.core.repository.entity.AnswerEntity;
 import com.genai.core.repository.entity.PromptEntity;
+import com.genai.core.repository.request.AnswerRequest;
 import com.genai.core.repository.response.AnswerResponse;
+import com.genai.core.repository.vo.LlmOptionVO;
 import com.genai.core.service.module.vo.ConversationVO;
 import com.genai.core.common.enums.LlmPlatformType;
+import com.genai.core.common.enums.LlmPriority;
 import com.genai.core.common.enums.LlmType;
+import com.genai.core.utils.TokenCalculateUtil;
 import com.genai.global.common.utils.ReactiveLogUtil;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
@@ -33,42 +46,71 @@ import java.util.*;
 public class ModelRepositoryImpl implements ModelRepository {
 
     private final LlmRetryProperty llmRetryProperty;
-    private final Map<LlmType, List<LlmInstance>> llmInstanceMap;
+    private final LlmHealthProperty llmHealthProperty;
+    private final Map<LlmType, LlmInstancePool> llmInstancePoolMap;
     private final ObjectMapper objectMapper;
 
     /**
-     * LLM Instance 획득
+     * LLM Instance Pool 조회 (미등록 타입은 기본 Pool)
      *
      * @param llmType LLM 타입
-     * @return LLM Instance
+     * @return LLM Instance Pool
      */
-    private Mono<LlmInstance> acquireInstanceAsync(String requestId, LlmType llmType) {
-        return Mono.fromCallable(() -> {
-                    LlmType finalLlmType = (llmInstanceMap.get(llmType) == null || llmInstanceMap.get(llmType).isEmpty())
-                            ? LlmType.DEFAULT
-                            : llmType;
-
-                    // LLM Instance 목록
-                    List<LlmInstance> instances = new ArrayList<>(llmInstanceMap.get(finalLlmType));
+    private LlmInstancePool getInstancePool(LlmType llmType) {
+        return llmInstancePoolMap.getOrDefault(llmType, llmInstancePoolMap.get(LlmType.DEFAULT));
+    }
 
-                    // 랜덤 섞기
-                    Collections.shuffle(instances);
+    /**
+     * 컨텍스트 최대 토큰 수 조회 (Pool 내 Instance 중 최소값)
+     *
+     * @param llmType       LLM 타입
+     * @param promptEntity  프롬 프트
+     * @param query         질의문
+     * @param chatState     대화 상태
+     * @param conversations 대화 이력 목록
+     * @return 컨텍스트 최대 토큰 수
+     */
+    @Override
+    public int getContextTokenLimit(LlmType llmType, PromptEntity promptEntity, String query, String chatState, List<ConversationVO> conversations) {
+        return this.getInstancePool(llmType).getInstances().stream()
+                .mapToInt(instance -> TokenCalculateUtil.calculateContextTokens(
+                        instance.getLlmInstanceProperty(), promptEntity.getPromptContent(), query, chatState, conversations))
+                .min()
+                .orElse(0);
+    }
 
-                    for (LlmInstance instance : instances) {
-                        Optional<Integer> sessionCountOptional = instance.tryAcquire(requestId);
+    /**
+     * 라우팅 키 조회 (미지정 시 프롬프트 ID 기준)
+     *
+     * @param llmOption    LLM 요청 옵션
+     * @param promptEntity 프롬프트
+     * @return 라우팅 키
+     */
+    private String getRouteKey(LlmOptionVO llmOption, PromptEntity promptEntity) {
 
-                        if (sessionCountOptional.isPresent()) {
-                            return Optional.of(new LlmInstance.AcquireResult(instance, sessionCountOptional.get()));
-                        }
-                    }
+        if (llmOption.getRouteKey() != null) {
+            return llmOption.getRouteKey();
+        }
 
-                    return Optional.<LlmInstance.AcquireResult>empty();
+        return promptEntity.getPromptId() == null ? null : "prompt:" + promptEntity.getPromptId();
+    }
 
-                })
-                .flatMap(Mono::justOrEmpty)
-                .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(llmRetryProperty.getDelayMs())))
-                .timeout(Duration.ofMillis(llmRetryProperty.getTimeoutMs()),
-                        Mono.error(new ModelErrorException("LLM Instance 획득 실패 (" + llmRetryProperty.getTimeoutMs() + "ms)")))
+    /**
+     * LLM Instance 획득
+     *
+     * @param requestId           요청 ID
+     * @param routeKey            라우팅 키
+     * @param priority            우선 순위
+     * @param excludedInstanceIds 제외 Instance ID 목록
+     * @param pool                LLM Instance Pool
+     * @return LLM Instance
+     */
+    private Mono<LlmInstance> acquireInstanceAsync(String requestId, String routeKey, LlmPriority priority, Set<String> excludedInstanceIds, LlmInstancePool pool) {
+        return Mono.defer(() -> pool.acquire(requestId, routeKey, priority, excludedInstanceIds)
+                        // 가용 세션 없으면 대기 큐에서 반납 시점 인계 대기
+                        .timeout(Duration.ofMillis(llmRetryProperty.getTimeoutMs()),
+                                Mono.error(new ModelErrorException("LLM Instance 획득 실패 (" + llmRetryProperty.getTimeoutMs() + "ms)")))
+                        .doOnDiscard(LlmInstance.AcquireResult.class, acquireResult -> pool.release(requestId, acquireResult.instance())))
                 .doOnEach(ReactiveLogUtil.debug(CoreLogMessage.LLM_INSTANCE_TRY_ACQUIRE_MESSAGE, v -> new Object[]{
                         v.instance().getInstanceId(), v.sessionCount()
                 }))
@@ -78,10 +120,12 @@ public class ModelRepositoryImpl implements ModelRepository {
     /**
      * LLM Instance 반납
      *
-     * @param instance LLM Instance
+     * @param requestId 요청 ID
+     * @param pool      LLM Instance Pool
+     * @param instance  LLM Instance
      */
-    private Mono<Void> releaseInstance(String requestId, LlmInstance instance) {
-        return Mono.fromCallable(() -> instance.release(requestId))
+    private Mono<Void> releaseInstance(String requestId, LlmInstancePool pool, LlmInstance instance) {
+        return Mono.fromCallable(() -> pool.release(requestId, instance))
                 .doOnEach(ReactiveLogUtil.debug(CoreLogMessage.LLM_INSTANCE_RELEASE_MESSAGE, v -> new Object[]{
                         instance.getInstanceId(), v
                 }))
@@ -163,12 +207,9 @@ public class ModelRepositoryImpl implements ModelRepository {
      */
     @Override
     public Mono<List<AnswerEntity>> generateAnswerAsync(String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, LlmType llmType) {
-        String requestId = StringUtil.generateRandomId();
-        return Mono.usingWhen(
-                acquireInstanceAsync(requestId, llmType),
-                instance -> executeAsyncRequest(instance, query, context, chatState, conversations, promptEntity, requestId),
-                instance -> releaseInstance(requestId, instance)
-        );
+        return this.generateAnswerAsync(query, context, chatState, conversations, promptEntity, LlmOptionVO.builder()
+                .llmType(llmType)
+                .build());
     }
 
     /**
@@ -184,11 +225,61 @@ public class ModelRepositoryImpl implements ModelRepository {
      */
     @Override
     public Flux<AnswerEntity> generateStreamAnswerAsync(String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, LlmType llmType) {
+        return this.generateStreamAnswerAsync(query, context, chatState, conversations, promptEntity, LlmOptionVO.builder()
+                .llmType(llmType)
+                .build());
+    }
+
+    /**
+     * 답변 생성 요청
+     *
+     * @param query         질의문
+     * @param context       검색 결과 데이터
+     * @param chatState     대화 상태
+     * @param conversations 대화 이력 목록
+     * @param promptEntity  프롬 프트
+     * @param llmOption     LLM 요청 옵션
+     * @return 답변 엔티티 목록 Mono
+     */
+    @Override
+    public Mono<List<AnswerEntity>> generateAnswerAsync(String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, LlmOptionVO llmOption) {
         String requestId = StringUtil.generateRandomId();
+        LlmInstancePool pool = this.getInstancePool(llmOption.getLlmType());
+        String routeKey = this.getRouteKey(llmOption, promptEntity);
+        // Instance 장애 시 다른 Instance 로 재시도
+        return Mono.defer(() -> {
+            Set<String> failedInstanceIds = ConcurrentHashMap.newKeySet();
+
+            return Mono.usingWhen(
+                            acquireInstanceAsync(requestId, routeKey, llmOption.getPriority(), failedInstanceIds, pool),
+                            instance -> executeAsyncRequest(instance, query, context, chatState, conversations, promptEntity, llmOption, requestId)
+                                    .doOnError(throwable -> failedInstanceIds.add(instance.getInstanceId())),
+                            instance -> releaseInstance(requestId, pool, instance)
+                    )
+                    .retryWhen(Retry.max(llmHealthProperty.getMaxRetries()).filter(this::isInstanceFailure));
+        });
+    }
+
+    /**
+     * 답변 생성 요청
+     *
+     * @param query         질의문
+     * @param context       검색 결과 데이터
+     * @param chatState     대화 상태
+     * @param conversations 대화 이력 목록
+     * @param promptEntity  프롬 프트
+     * @param llmOption     LLM 요청 옵션
+     * @return 답변 엔티티 Flux
+     */
+    @Override
+    public Flux<AnswerEntity> generateStreamAnswerAsync(String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, LlmOptionVO llmOption) {
+        String requestId = StringUtil.generateRandomId();
+        LlmInstancePool pool = this.getInstancePool(llmOption.getLlmType());
+        String routeKey = this.getRouteKey(llmOption, promptEntity);
         return Flux.usingWhen(
-                acquireInstanceAsync(requestId, llmType),
-                instance -> executeStreamRequest(instance, query, context, chatState, conversations, promptEntity, requestId),
-                instance -> releaseInstance(requestId, instance)
+                acquireInstanceAsync(requestId, routeKey, llmOption.getPriority(), Collections.emptySet(), pool),
+                instance -> executeStreamRequest(instance, query, context, chatState, conversations, promptEntity, llmOption, requestId),
+                instance -> releaseInstance(requestId, pool, instance)
         );
     }
 
@@ -201,30 +292,44 @@ public class ModelRepositoryImpl implements ModelRepository {
      * @param chatState     대화 상태
      * @param conversations 대화 이력 목록
      * @param promptEntity  프롬 프트
+     * @param llmOption     LLM 요청 옵션
      * @return 답변 엔티티 목록 Mono
      */
-    private Mono<List<AnswerEntity>> executeAsyncRequest(LlmInstance instance, String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, String requestId) {
+    private Mono<List<AnswerEntity>> executeAsyncRequest(LlmInstance instance, String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, LlmOptionVO llmOption, String requestId) {
         LlmPlatformType platformType = instance.getPlatformType();
         LlmInstanceProperty llmInstanceProperty = instance.getLlmInstanceProperty();
 
-        Object request = platformType.request(
+        AnswerRequest request = platformType.request(
                 llmInstanceProperty, promptEntity.getTemperature(), promptEntity.getTopP(), false,
-                promptEntity.getPromptContent(), promptEntity.getDeveloperPromptContent(), query, context, chatState, conversations);
-
-        return Mono.just(request)
-                .flatMap(requestBody -> instance.getWebClient().post()
-                        .uri(llmInstanceProperty.getUrl())
-                        .accept(MediaType.APPLICATION_JSON)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .header("Authorization", "Bearer " + llmInstanceProperty.getApiKey())
-                        .bodyValue(requestBody)
-                        .retrieve() // exchangeToMono 대신 간결한 retrieve 사용
-                        .onStatus(status -> !status.is2xxSuccessful(), response -> response.bodyToMono(String.class)
-                                .flatMap(body -> Mono.error(new ModelErrorException("모델 API 요청 실패 (" + response.statusCode() + ") | " + body)))
-                        )
-                        .bodyToMono(String.class)
-                        .map(json -> parseAnswerResponse(json, platformType, false))
-                )
+                promptEntity.getPromptContent(), promptEntity.getDeveloperPromptContent(), query, context, chatState, conversations, llmOption);
+
+        return Mono.defer(() -> {
+                    long startTime = System.nanoTime();
+
+                    return Mono.just(request)
+                            .flatMap(requestBody -> instance.getWebClient().post()
+                                    .uri(llmInstanceProperty.getUrl())
+                                    .accept(MediaType.APPLICATION_JSON)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .header("Authorization", "Bearer " + llmInstanceProperty.getApiKey())
+                                    .bodyValue(requestBody)
+                                    .retrieve() // exchangeToMono 대신 간결한 retrieve 사용
+                                    .onStatus(status -> !status.is2xxSuccessful(), response -> response.bodyToMono(String.class)
+                                            .flatMap(body -> Mono.error(new ModelErrorException("모델 API 요청 실패 (" + response.statusCode() + ") | " + body, response.statusCode().is5xxServerError())))
+                                    )
+                                    .bodyToMono(String.class)
+                                    .map(json -> parseAnswerResponse(json, platformType, false))
+                            )
+                            // 비스트림 응답은 프리필 시간이 포함되어 라우팅 토큰 생성 속도 (스트림 기준) 에서 제외
+                            // 동시성 한도는 스트림 기준과 분리하여 최대 출력 토큰 수 기준 응답 시간으로 반영
+                            .doOnNext(answerEntities -> {
+                                double elapsedMs = elapsedMs(startTime);
+
+                                instance.getHealth().onSuccess();
+                                instance.getLimiter().onRequestSample(request.getMaxTokens() > 0 ? elapsedMs / request.getMaxTokens() : Double.NaN);
+                            })
+                            .doOnError(throwable -> this.onInstanceError(instance, throwable));
+                })
                 .doOnEach(ReactiveLogUtil.debug(CoreLogMessage.LLM_RESPONSE_BLOCKING_MESSAGE, v -> new Object[]{
                         instance.getInstanceId(), requestId, llmInstanceProperty.getUrl(), StringUtil.writeJson(request), StringUtil.writeJson(v)
                 }));
@@ -239,32 +344,58 @@ public class ModelRepositoryImpl implements ModelRepository {
      * @param chatState     대화 상태
      * @param conversations 대화 이력 목록
      * @param promptEntity  프롬 프트
+     * @param llmOption     LLM 요청 옵션
      * @return 답변 엔티티 Flux
      */
-    private Flux<AnswerEntity> executeStreamRequest(LlmInstance instance, String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, String requestId) {
+    private Flux<AnswerEntity> executeStreamRequest(LlmInstance instance, String query, String context, String chatState, List<ConversationVO> conversations, PromptEntity promptEntity, LlmOptionVO llmOption, String requestId) {
         LlmPlatformType platformType = instance.getPlatformType();
         LlmInstanceProperty llmInstanceProperty = instance.getLlmInstanceProperty();
 
-        Object request = platformType.request(
+        AnswerRequest request = platformType.request(
                 llmInstanceProperty, promptEntity.getTemperature(), promptEntity.getTopP(), true,
-                promptEntity.getPromptContent(), promptEntity.getDeveloperPromptContent(), query, context, chatState, conversations);
-
-        Flux<AnswerEntity> answerEntityFlux = Mono.just(request)
-                .flatMapMany(requestBody -> instance.getWebClient().post()
-                        .uri(llmInstanceProperty.getUrl())
-                        .accept(MediaType.APPLICATION_JSON)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .header("Authorization", "Bearer " + llmInstanceProperty.getApiKey())
-                        .bodyValue(requestBody)
-                        .retrieve()
-                        .onStatus(status -> !status.is2xxSuccessful(), response -> response.bodyToMono(String.class)
-                                .flatMap(body -> Mono.error(new ModelErrorException("모델 API 요청 실패 (" + response.statusCode() + ") | " + body)))
-                        )
-                        .bodyToFlux(String.class)
-                        .mapNotNull(json -> json.replaceFirst("^data:", "").trim())
-                        .filter(json -> !json.equals("[DONE]") && !json.isEmpty())
-                        .flatMapIterable(json -> parseAnswerResponse(json, platformType, true))
-                )
+                promptEntity.getPromptContent(), promptEntity.getDeveloperPromptContent(), query, context, chatState, conversations, llmOption);
+
+        Flux<AnswerEntity> answerEntityFlux = Flux.defer(() -> {
+                    long startTime = System.nanoTime();
+                    AtomicLong firstTokenTime = new AtomicLong();
+                    AtomicLong tokenCount = new AtomicLong();
+
+                    return Mono.just(request)
+                            .flatMapMany(requestBody -> instance.getWebClient().post()
+                                    .uri(llmInstanceProperty.getUrl())
+                                    .accept(MediaType.APPLICATION_JSON)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .header("Authorization", "Bearer " + llmInstanceProperty.getApiKey())
+                                    .bodyValue(requestBody)
+                                    .retrieve()
+                                    .onStatus(status -> !status.is2xxSuccessful(), response -> response.bodyToMono(String.class)
+                                            .flatMap(body -> Mono.error(new ModelErrorException("모델 API 요청 실패 (" + response.statusCode() + ") | " + body, response.statusCode().is5xxServerError())))
+                                    )
+                                    .bodyToFlux(String.class)
+                                    .mapNotNull(json -> json.replaceFirst("^data:", "").trim())
+                                    .filter(json -> !json.equals("[DONE]") && !json.isEmpty())
+                                    .flatMapIterable(json -> parseAnswerResponse(json, platformType, true))
+                            )
+                            // 첫 토큰 응답 시간 및 토큰 생성 속도 기록 (스트림 청크 1건을 1토큰으로 간주)
+                            .doOnNext(answerEntity -> {
+                                if (firstTokenTime.compareAndSet(0, System.nanoTime())) {
+                                    double firstTokenMs = elapsedMs(startTime);
+
+                                    instance.getHealth().onFirstToken(firstTokenMs, instance.getStat().getEwmaFirstTokenMs());
+                                    instance.getStat().recordFirstToken(firstTokenMs);
+                                }
+                                tokenCount.incrementAndGet();
+                            })
+                            .doOnComplete(() -> {
+                                if (firstTokenTime.get() > 0) {
+                                    double generateMs = elapsedMs(firstTokenTime.get());
+
+                                    instance.getStat().recordTokens(tokenCount.get(), generateMs);
+                                    instance.getLimiter().onSample((firstTokenTime.get() - startTime) / 1_000_000.0, generateMs / tokenCount.get());
+                                }
+                            })
+                            .doOnError(throwable -> this.onInstanceError(instance, throwable));
+                })
                 .cache();
 
         // 스트림 로그 처리 Mono
@@ -301,6 +432,44 @@ public class ModelRepositoryImpl implements ModelRepository {
                 .concatWith(responseMono.subscribeOn(Schedulers.boundedElastic()).then(Mono.empty()));
     }
 
+    /**
+     * Instance 장애 반영 (연결 실패, 타임아웃, 5xx)
+     *
+     * @param instance  LLM Instance
+     * @param throwable 오류
+     */
+    private void onInstanceError(LlmInstance instance, Throwable throwable) {
+
+        if (!this.isInstanceFailure(throwable)) return;
+
+        instance.getHealth().onError();
+        instance.getLimiter().onError();
+    }
+
+    /**
+     * Instance 장애 여부
+     *
+     * @param throwable 오류
+     * @return Instance 장애 여부
+     */
+    private boolean isInstanceFailure(Throwable throwable) {
+        return throwable instanceof WebClientRequestException
+                || throwable instanceof TimeoutException
+                || throwable instanceof ReadTimeoutException
+                || throwable instanceof WriteTimeoutException
+                || (throwable instanceof ModelErrorException modelErrorException && modelErrorException.isInstanceFailure());
+    }
+
+    /**
+     * 경과 시간 계산
+     *
+     * @param startTime 시작 시각 (ns)
+     * @return 경과 시간 (ms)
+     */
+    private double elapsedMs(long startTime) {
+        return (System.nanoTime() - startTime) / 1_000_000.0;
+    }
+
     /**
      * 답변 응답 바디 파싱
      *
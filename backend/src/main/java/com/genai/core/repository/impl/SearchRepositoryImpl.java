@@ -1,37 +1,41 @@
 package com.genai.core.repository.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.genai.core.config.properties.EmbedProperty;
+import com.genai.core.config.properties.RerankBatchProperty;
 import com.genai.core.config.properties.RerankerProperty;
 import com.genai.core.config.properties.SearchProperty;
 import com.genai.core.exception.SearchErrorException;
+import com.genai.core.repository.batch.QueryVectorBatcher;
+import com.genai.core.repository.cache.QueryVectorCache;
+import com.genai.core.repository.cache.RerankScoreCache;
+import com.genai.core.repository.decoder.SearchResponseDecoder;
 import com.genai.core.repository.SearchRepository;
 import com.genai.core.repository.entity.DocumentEntity;
 import com.genai.core.repository.request.KeywordSearchRequest;
+import com.genai.core.repository.request.MultiSearchRequest;
 import com.genai.core.repository.request.RerankRequest;
 import com.genai.core.repository.request.VectorSearchRequest;
+import com.genai.core.repository.response.MultiSearchResponse;
 import com.genai.core.repository.response.RerankResponse;
 import com.genai.core.repository.response.SearchResponse;
-import com.genai.core.repository.vo.ConvertVectorVO;
+import com.genai.core.repository.wrapper.HybridSearch;
 import com.genai.core.repository.wrapper.Rerank;
 import com.genai.core.repository.wrapper.Search;
 import com.genai.core.type.CollectionType;
+import com.genai.core.utils.TokenCalculateUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpStatus;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,28 +44,37 @@ public class SearchRepositoryImpl implements SearchRepository {
 
     private final WebClient searchWebClient;
     private final WebClient rerankerWebClient;
-    private final WebClient embedWebClient;
     private final SearchProperty searchProperty;
     private final RerankerProperty rerankerProperty;
-    private final EmbedProperty embedProperty;
+    private final RerankBatchProperty rerankBatchProperty;
     private final ObjectMapper objectMapper;
+    private final SearchResponseDecoder searchResponseDecoder;
+    private final QueryVectorCache queryVectorCache;
+    private final RerankScoreCache rerankScoreCache;
+    private final QueryVectorBatcher queryVectorBatcher;
 
     public SearchRepositoryImpl(
             @Qualifier("searchWebClient") WebClient searchWebClient,
             @Qualifier("rerankerWebClient") WebClient rerankerWebClient,
-            @Qualifier("embedWebClient") WebClient embedWebClient,
             @Autowired SearchProperty searchProperty,
             @Autowired RerankerProperty rerankerProperty,
-            @Autowired EmbedProperty embedProperty,
-            @Autowired ObjectMapper objectMapper
+            @Autowired RerankBatchProperty rerankBatchProperty,
+            @Autowired ObjectMapper objectMapper,
+            @Autowired SearchResponseDecoder searchResponseDecoder,
+            @Autowired QueryVectorCache queryVectorCache,
+            @Autowired RerankScoreCache rerankScoreCache,
+            @Autowired QueryVectorBatcher queryVectorBatcher
     ) {
         this.searchWebClient = searchWebClient;
         this.rerankerWebClient = rerankerWebClient;
-        this.embedWebClient = embedWebClient;
         this.searchProperty = searchProperty;
         this.rerankerProperty = rerankerProperty;
-        this.embedProperty = embedProperty;
+        this.rerankBatchProperty = rerankBatchProperty;
         this.objectMapper = objectMapper;
+        this.searchResponseDecoder = searchResponseDecoder;
+        this.queryVectorCache = queryVectorCache;
+        this.rerankScoreCache = rerankScoreCache;
+        this.queryVectorBatcher = queryVectorBatcher;
     }
 
     /**
@@ -75,42 +88,41 @@ public class SearchRepositoryImpl implements SearchRepository {
      */
     @Override
     public <T extends DocumentEntity> List<Search<T>> keywordSearch(CollectionType collectionType, String query, int topK, List<String> aliases) {
+        return this.<T>keywordSearchAsync(collectionType, query, topK, aliases)
+                .block();
+    }
+
+    /**
+     * 키워드 검색 요청
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param topK           top K
+     * @param aliases        필터 코드 목록
+     * @return 키워드 검색 결과 목록 Mono
+     */
+    @Override
+    public <T extends DocumentEntity> Mono<List<Search<T>>> keywordSearchAsync(CollectionType collectionType, String query, int topK, List<String> aliases) {
 
         KeywordSearchRequest keywordSearchRequest = KeywordSearchRequest.builder()
                 .size(topK)
                 .sort(List.of(KeywordSearchRequest.sort(KeywordSearchRequest.SortField._score, "desc")))
                 .query(KeywordSearchRequest.query(KeywordSearchRequest.QueryType.best_fields, query, collectionType.getKeywordSearchFields(), aliases))
+                .source(KeywordSearchRequest.source(collectionType.getSourceIncludes(), collectionType.getSourceExcludes()))
                 .build();
 
-        ResponseEntity<String> responseEntity = searchWebClient.post()
+        return searchWebClient.post()
                 .uri(searchProperty.getUrl() + "/" + collectionType.getCollectionId() + "/_search")
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(keywordSearchRequest)
-                .exchangeToMono(response -> response
-                        .bodyToMono(String.class)
-                        .map(body -> new ResponseEntity<>(body, response.statusCode())))
-                .block();
-
-        // 응답 체크
-        if (responseEntity == null || !responseEntity.getStatusCode().is2xxSuccessful() || responseEntity.getBody() == null) {
-            throw new SearchErrorException("키워드 검색 실패 (" + collectionType.getCollectionId() + ")");
-        }
-
-        try {
-            JavaType type = objectMapper.getTypeFactory().constructParametricType(SearchResponse.class, collectionType.getMappingClass());
-            SearchResponse<T> responseBody = objectMapper.readValue(responseEntity.getBody(), type);
-
-            // 응답 바디 체크
-            if (responseBody == null) {
-                throw new SearchErrorException("키워드 검색 응답 바디 조회 실패 (" + collectionType.getCollectionId() + ")");
-            }
-
-            return responseBody.getResult().hits();
-
-        } catch (JsonProcessingException e) {
-            throw new SearchErrorException("키워드 검색 응답 바디 변환 실패 (" + collectionType.getCollectionId() + ")");
-        }
+                .exchangeToMono(response -> response.statusCode().is2xxSuccessful()
+                        ? searchResponseDecoder.<T>decodeSearchResponse(response.bodyToFlux(DataBuffer.class), collectionType.getMappingClass())
+                        : response.releaseBody().then(Mono.error(new SearchErrorException("키워드 검색 실패 (" + collectionType.getCollectionId() + ")"))))
+                // 응답 체크
+                .switchIfEmpty(Mono.error(() -> new SearchErrorException("키워드 검색 실패 (" + collectionType.getCollectionId() + ")")))
+                .onErrorMap(SearchRepositoryImpl::isDecodeError, throwable -> new SearchErrorException("키워드 검색 응답 바디 변환 실패 (" + collectionType.getCollectionId() + ")", throwable))
+                .map(searchResponse -> this.<T>readSearchResponse(searchResponse, collectionType, "키워드 검색"));
     }
 
     /**
@@ -124,66 +136,119 @@ public class SearchRepositoryImpl implements SearchRepository {
      */
     @Override
     public <T extends DocumentEntity> List<Search<T>> vectorSearch(CollectionType collectionType, String query, int topK, List<String> aliases) {
-
-        ConvertVectorVO convertVectorVO = ConvertVectorVO.builder()
-                .id(Long.MIN_VALUE)
-                .content(query)
-                .build();
-
-        convertVectorVO = embedWebClient.post()
-                .uri(embedProperty.getUrl())
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .bodyValue(List.of(convertVectorVO))
-                .retrieve()
-                .onStatus(HttpStatus::isError, response ->
-                        response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-                                })
-                                .flatMap(errorBody -> Mono.error(new SearchErrorException("벡터 검색 실패 (" + collectionType.getCollectionId() + ")")))
-                )
-                .bodyToMono(new ParameterizedTypeReference<List<ConvertVectorVO>>() {
-                })
-                .blockOptional()
-                .orElseThrow(() -> new SearchErrorException("벡터 검색 실패 (" + collectionType.getCollectionId() + ")"))
-                .getFirst();
-
-        VectorSearchRequest vectorSearchRequest = VectorSearchRequest.builder()
-                .size(topK)
-                .query(VectorSearchRequest.query(
-                        collectionType.getVectorSearchFields(),
-                        convertVectorVO.getVector(),
-                        aliases))
-                .build();
-
-        ResponseEntity<String> responseEntity = searchWebClient.post()
-                .uri(searchProperty.getUrl() + "/" + collectionType.getCollectionId() + "/_search")
-                .accept(MediaType.APPLICATION_JSON)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(vectorSearchRequest)
-                .exchangeToMono(response -> response
-                        .bodyToMono(String.class)
-                        .map(body -> new ResponseEntity<>(body, response.statusCode())))
+        return this.<T>vectorSearchAsync(collectionType, query, topK, aliases)
                 .block();
+    }
 
-        // 응답 체크
-        if (responseEntity == null || !responseEntity.getStatusCode().is2xxSuccessful() || responseEntity.getBody() == null) {
-            throw new SearchErrorException("벡터 검색 실패 (" + collectionType.getCollectionId() + ")");
-        }
+    /**
+     * 벡터 검색 요청
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param topK           top K
+     * @param aliases        필터 코드 목록
+     * @return 벡터 검색 결과 목록 Mono
+     */
+    @Override
+    public <T extends DocumentEntity> Mono<List<Search<T>>> vectorSearchAsync(CollectionType collectionType, String query, int topK, List<String> aliases) {
+        return this.convertQueryVectorAsync(collectionType, query)
+                .map(vector -> VectorSearchRequest.builder()
+                        .size(topK)
+                        .query(VectorSearchRequest.query(
+                                collectionType.getVectorSearchFields(),
+                                vector,
+                                aliases))
+                        .source(VectorSearchRequest.source(collectionType.getSourceIncludes(), collectionType.getSourceExcludes()))
+                        .build())
+                .flatMap(vectorSearchRequest -> searchWebClient.post()
+                        .uri(searchProperty.getUrl() + "/" + collectionType.getCollectionId() + "/_search")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(vectorSearchRequest)
+                        .exchangeToMono(response -> response.statusCode().is2xxSuccessful()
+                                ? searchResponseDecoder.<T>decodeSearchResponse(response.bodyToFlux(DataBuffer.class), collectionType.getMappingClass())
+                                : response.releaseBody().then(Mono.error(new SearchErrorException("벡터 검색 실패 (" + collectionType.getCollectionId() + ")")))))
+                // 응답 체크
+                .switchIfEmpty(Mono.error(() -> new SearchErrorException("벡터 검색 실패 (" + collectionType.getCollectionId() + ")")))
+                .onErrorMap(SearchRepositoryImpl::isDecodeError, throwable -> new SearchErrorException("벡터 검색 응답 바디 변환 실패 (" + collectionType.getCollectionId() + ")", throwable))
+                .map(searchResponse -> this.<T>readSearchResponse(searchResponse, collectionType, "벡터 검색"));
+    }
 
-        try {
-            JavaType type = objectMapper.getTypeFactory().constructParametricType(SearchResponse.class, collectionType.getMappingClass());
-            SearchResponse<T> responseBody = objectMapper.readValue(responseEntity.getBody(), type);
+    /**
+     * 하이브리드 검색 요청 (키워드 검색 + 벡터 검색 단일 _msearch 요청)
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param keywordTopK    키워드 검색 top K
+     * @param vectorTopK     벡터 검색 top K
+     * @param aliases        필터 코드 목록
+     * @return 하이브리드 검색 결과
+     */
+    @Override
+    public <T extends DocumentEntity> HybridSearch<T> hybridSearch(CollectionType collectionType, String query, int keywordTopK, int vectorTopK, List<String> aliases) {
+        return this.<T>hybridSearchAsync(collectionType, query, keywordTopK, vectorTopK, aliases)
+                .block();
+    }
 
-            // 응답 바디 체크
-            if (responseBody == null) {
-                throw new SearchErrorException("벡터 검색 응답 바디 조회 실패 (" + collectionType.getCollectionId() + ")");
-            }
+    /**
+     * 하이브리드 검색 요청 (키워드 검색 + 벡터 검색 단일 _msearch 요청)
+     * 두 검색 바디를 NDJSON 으로 묶어 한 번의 요청으로 전송하고, 응답 순서대로 키워드 / 벡터 검색 결과를 분리
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param keywordTopK    키워드 검색 top K
+     * @param vectorTopK     벡터 검색 top K
+     * @param aliases        필터 코드 목록
+     * @return 하이브리드 검색 결과 Mono
+     */
+    @Override
+    public <T extends DocumentEntity> Mono<HybridSearch<T>> hybridSearchAsync(CollectionType collectionType, String query, int keywordTopK, int vectorTopK, List<String> aliases) {
 
-            return responseBody.getResult().hits();
+        KeywordSearchRequest keywordSearchRequest = KeywordSearchRequest.builder()
+                .size(keywordTopK)
+                .sort(List.of(KeywordSearchRequest.sort(KeywordSearchRequest.SortField._score, "desc")))
+                .query(KeywordSearchRequest.query(KeywordSearchRequest.QueryType.best_fields, query, collectionType.getKeywordSearchFields(), aliases))
+                .source(KeywordSearchRequest.source(collectionType.getSourceIncludes(), collectionType.getSourceExcludes()))
+                .build();
 
-        } catch (JsonProcessingException e) {
-            throw new SearchErrorException("벡터 검색 응답 바디 변환 실패 (" + collectionType.getCollectionId() + ")");
-        }
+        return this.convertQueryVectorAsync(collectionType, query)
+                .map(vector -> VectorSearchRequest.builder()
+                        .size(vectorTopK)
+                        .query(VectorSearchRequest.query(
+                                collectionType.getVectorSearchFields(),
+                                vector,
+                                aliases))
+                        .source(VectorSearchRequest.source(collectionType.getSourceIncludes(), collectionType.getSourceExcludes()))
+                        .build())
+                .map(vectorSearchRequest -> {
+                    MultiSearchRequest multiSearchRequest = MultiSearchRequest.builder()
+                            .index(collectionType.getCollectionId())
+                            .build();
+
+                    try {
+                        String multiSearchRequestJson = objectMapper.writeValueAsString(multiSearchRequest);
+
+                        return multiSearchRequestJson + "\n" +
+                                objectMapper.writeValueAsString(keywordSearchRequest) + "\n" +
+                                multiSearchRequestJson + "\n" +
+                                objectMapper.writeValueAsString(vectorSearchRequest) + "\n";
+
+                    } catch (JsonProcessingException e) {
+                        throw new SearchErrorException("하이브리드 검색 요청 변환 실패 (" + collectionType.getCollectionId() + ")", e);
+                    }
+                })
+                .flatMap(requestBody -> searchWebClient.post()
+                        .uri(searchProperty.getUrl() + "/_msearch")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .bodyValue(requestBody)
+                        .exchangeToMono(response -> response.statusCode().is2xxSuccessful()
+                                ? searchResponseDecoder.<T>decodeMultiSearchResponse(response.bodyToFlux(DataBuffer.class), collectionType.getMappingClass())
+                                : response.releaseBody().then(Mono.error(new SearchErrorException("하이브리드 검색 실패 (" + collectionType.getCollectionId() + ")")))))
+                // 응답 체크
+                .switchIfEmpty(Mono.error(() -> new SearchErrorException("하이브리드 검색 실패 (" + collectionType.getCollectionId() + ")")))
+                .onErrorMap(SearchRepositoryImpl::isDecodeError, throwable -> new SearchErrorException("하이브리드 검색 응답 바디 변환 실패 (" + collectionType.getCollectionId() + ")", throwable))
+                .map(multiSearchResponse -> this.<T>readMultiSearchResponse(multiSearchResponse, collectionType));
     }
 
     /**
@@ -195,54 +260,177 @@ public class SearchRepositoryImpl implements SearchRepository {
      */
     @Override
     public List<Rerank> rerank(String query, List<Rerank> documents) {
+        return this.rerankAsync(query, documents)
+                .block();
+    }
 
-        if (documents.isEmpty()) return documents;
+    /**
+     * 검색 결과 리랭킹
+     *
+     * @param query     질의문
+     * @param documents 검색 문서 목록
+     * @return 리랭킹 문서 목록 Mono
+     */
+    @Override
+    public Mono<List<Rerank>> rerankAsync(String query, List<Rerank> documents) {
+
+        if (documents.isEmpty()) return Mono.just(documents);
+
+        // 캐시 조회 (캐시 미스 문서만 리랭킹 요청)
+        List<Rerank> cachedDocuments = new ArrayList<>();
+        List<Rerank> uncachedDocuments = new ArrayList<>();
+        documents.forEach(rerank -> {
+            Double rerankScore = rerankScoreCache.get(query, rerank.getDocument());
+            if (rerankScore != null) {
+                rerank.setRerankScore(rerankScore);
+                cachedDocuments.add(rerank);
+            } else {
+                uncachedDocuments.add(rerank);
+            }
+        });
+
+        Mono<List<Rerank>> rerankMono = uncachedDocuments.isEmpty()
+                ? Mono.just(Collections.emptyList())
+                : this.requestRerankAsync(query, uncachedDocuments);
+
+        // 캐시 점수와 리랭킹 점수 병합 (점수 내림차순)
+        return rerankMono.map(rerankDocuments -> {
+            List<Rerank> mergedDocuments = new ArrayList<>(cachedDocuments);
+            mergedDocuments.addAll(rerankDocuments);
+            mergedDocuments.sort(Comparator.comparingDouble(Rerank::getRerankScore).reversed());
+            return mergedDocuments;
+        });
+    }
+
+    /**
+     * 리랭킹 요청 (결과 점수 캐시 적재)
+     *
+     * @param query     질의문
+     * @param documents 검색 문서 목록
+     * @return 리랭킹 문서 목록 Mono
+     */
+    private Mono<List<Rerank>> requestRerankAsync(String query, List<Rerank> documents) {
 
         RerankRequest requestBody = RerankRequest.builder()
                 .query(query)
                 .documents(documents.stream()
                         .map(rerank -> RerankRequest.Document.builder()
                                 .id(String.valueOf(rerank.getDocument().getChunkId()))
-                                .content(rerank.getDocument().getContext())
+                                .content(TokenCalculateUtil.truncate(rerank.getDocument().getContext(), rerankBatchProperty.getMaxTokens()))
                                 .build())
                         .toList())
                 .build();
 
-        ResponseEntity<RerankResponse> responseEntity = rerankerWebClient.post()
+        return rerankerWebClient.post()
                 .uri(rerankerProperty.getUrl())
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(requestBody)
-                .exchangeToMono(response -> response
-                        .bodyToMono(RerankResponse.class)
-                        .map(body -> new ResponseEntity<>(body, response.statusCode())))
-                .block();
+                .exchangeToMono(response -> response.statusCode().is2xxSuccessful()
+                        ? response.bodyToMono(RerankResponse.class)
+                        : response.releaseBody().then(Mono.error(new SearchErrorException("리랭킹 실패"))))
+                // 응답 바디 체크
+                .switchIfEmpty(Mono.error(() -> new SearchErrorException("리랭킹 응답 바디 조회 실패")))
+                .map(responseBody -> {
+                    Map<Long, Rerank> documentMap = documents.stream()
+                            .collect(Collectors.toMap(rerank -> rerank.getDocument().getChunkId(), document -> document));
+
+                    List<Rerank> rerankDocuments = new ArrayList<>();
+                    responseBody.getDocuments().forEach(rerankDocumentResponse -> {
+                        Long chunkId = Long.parseLong(rerankDocumentResponse.id());
+                        if (documentMap.containsKey(chunkId)) {
+                            Rerank rerankDocument = documentMap.get(chunkId);
+                            rerankDocument.setRerankScore(rerankDocumentResponse.score());
+                            rerankDocuments.add(rerankDocument);
+                            rerankScoreCache.put(query, rerankDocument.getDocument(), rerankDocumentResponse.score());
+                        }
+                    });
+
+                    return rerankDocuments;
+                });
+    }
 
-        // 응답 체크
-        if (responseEntity == null || !responseEntity.getStatusCode().is2xxSuccessful()) {
-            throw new SearchErrorException("리랭킹 실패");
-        }
+    /**
+     * 질의문 벡터 변환 (캐시 우선 조회, 캐시 미스 시 동시 요청 병합 전송)
+     *
+     * @param query 질의문
+     * @return 질의문 벡터 Mono
+     */
+    @Override
+    public Mono<float[]> convertQueryVectorAsync(String query) {
+        return queryVectorCache.get(query, queryVectorBatcher::convert)
+                .onErrorMap(throwable -> !(throwable instanceof SearchErrorException), throwable -> new SearchErrorException("질의문 벡터 변환 실패", throwable));
+    }
 
-        RerankResponse responseBody = responseEntity.getBody();
+    /**
+     * 질의문 벡터 변환 (검색 컬렉션 기준 예외 변환)
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @return 질의문 벡터 Mono
+     */
+    private Mono<float[]> convertQueryVectorAsync(CollectionType collectionType, String query) {
+        return this.convertQueryVectorAsync(query)
+                .onErrorMap(throwable -> new SearchErrorException("벡터 검색 실패 (" + collectionType.getCollectionId() + ")", throwable));
+    }
+
+    /**
+     * 멀티 검색 응답 변환 (요청 순서: 키워드 검색, 벡터 검색)
+     *
+     * @param multiSearchResponse 멀티 검색 응답
+     * @param collectionType      컬렉션 타입
+     * @return 하이브리드 검색 결과
+     */
+    private <T extends DocumentEntity> HybridSearch<T> readMultiSearchResponse(MultiSearchResponse<T> multiSearchResponse, CollectionType collectionType) {
 
         // 응답 바디 체크
-        if (responseBody == null) {
-            throw new SearchErrorException("리랭킹 응답 바디 조회 실패");
+        if (multiSearchResponse.getResponses() == null || multiSearchResponse.getResponses().size() != 2) {
+            throw new SearchErrorException("하이브리드 검색 응답 바디 조회 실패 (" + collectionType.getCollectionId() + ")");
         }
 
-        Map<Long, Rerank> documentMap = documents.stream()
-                .collect(Collectors.toMap(rerank -> rerank.getDocument().getChunkId(), document -> document));
+        SearchResponse<T> keywordSearchResponse = multiSearchResponse.getResponses().get(0);
+        SearchResponse<T> vectorSearchResponse = multiSearchResponse.getResponses().get(1);
 
-        List<Rerank> rerankDocuments = new ArrayList<>();
-        responseBody.getDocuments().forEach(rerankDocumentResponse -> {
-            Long chunkId = Long.parseLong(rerankDocumentResponse.id());
-            if (documentMap.containsKey(chunkId)) {
-                Rerank rerankDocument = documentMap.get(chunkId);
-                rerankDocument.setRerankScore(rerankDocumentResponse.score());
-                rerankDocuments.add(rerankDocument);
-            }
-        });
+        // 개별 검색 실패 체크
+        if (keywordSearchResponse.getError() != null || keywordSearchResponse.getResult() == null) {
+            throw new SearchErrorException("키워드 검색 실패 (" + collectionType.getCollectionId() + ")");
+        }
+
+        if (vectorSearchResponse.getError() != null || vectorSearchResponse.getResult() == null) {
+            throw new SearchErrorException("벡터 검색 실패 (" + collectionType.getCollectionId() + ")");
+        }
 
-        return rerankDocuments;
+        return HybridSearch.<T>builder()
+                .keywordSearches(keywordSearchResponse.getResult().hits())
+                .vectorSearches(vectorSearchResponse.getResult().hits())
+                .build();
+    }
+
+    /**
+     * 검색 응답 변환
+     *
+     * @param searchResponse 검색 응답
+     * @param collectionType 컬렉션 타입
+     * @param searchName     검색 구분명
+     * @return 검색 결과 목록
+     */
+    private <T extends DocumentEntity> List<Search<T>> readSearchResponse(SearchResponse<T> searchResponse, CollectionType collectionType, String searchName) {
+
+        // 응답 바디 체크
+        if (searchResponse.getResult() == null) {
+            throw new SearchErrorException(searchName + " 응답 바디 조회 실패 (" + collectionType.getCollectionId() + ")");
+        }
+
+        return searchResponse.getResult().hits();
+    }
+
+    /**
+     * 응답 바디 디코딩 예외 여부 (역직렬화 실패, 버퍼 제한 초과)
+     *
+     * @param throwable 예외
+     * @return 디코딩 예외 여부
+     */
+    private static boolean isDecodeError(Throwable throwable) {
+        return throwable instanceof UncheckedIOException || throwable instanceof DataBufferLimitException;
     }
-}
\ No newline at end of file
+}
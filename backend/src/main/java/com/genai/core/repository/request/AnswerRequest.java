@@ -0,0 +1,6 @@
+package com.genai.core.repository.request;
+
+public interface AnswerRequest {
+
+    int getMaxTokens();
+}
@@ -1,5 +1,6 @@
 package com.genai.core.repository.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +22,17 @@ public class KeywordSearchRequest {
 
     private final Query query;
 
+    @JsonProperty("_source")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final SearchSource source;
+
+    public static SearchSource source(List<String> includes, List<String> excludes) {
+        return SearchSource.builder()
+                .includes(includes)
+                .excludes(excludes)
+                .build();
+    }
+
     public static Map<SortField, Order> sort(SortField sortField, String direction) {
         return Map.of(sortField, Order.builder().order(direction).build());
     }
@@ -0,0 +1,15 @@
+package com.genai.core.repository.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Builder
+@Getter
+@AllArgsConstructor
+public class MultiSearchRequest {
+
+    private final String index;
+}
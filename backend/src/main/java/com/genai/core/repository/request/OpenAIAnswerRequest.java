@@ -1,5 +1,6 @@
 package com.genai.core.repository.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.genai.core.service.module.vo.ConversationVO;
 import lombok.AllArgsConstructor;
@@ -9,10 +10,11 @@ import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @ToString
 @Getter
-public class OpenAIAnswerRequest {
+public class OpenAIAnswerRequest implements AnswerRequest {
 
     @JsonProperty("model")
     @ToString.Include(name = "model")
@@ -38,11 +40,23 @@ public class OpenAIAnswerRequest {
     @ToString.Include(name = "messages")
     private final List<Message> messages;
 
+    @JsonProperty("stop")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @ToString.Include(name = "stop")
+    private final List<String> stop;
+
+    @JsonProperty("response_format")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @ToString.Include(name = "response_format")
+    private final ResponseFormat responseFormat;
+
     @Builder
-    public OpenAIAnswerRequest(String modelName, double temperature, double topP, int maxTokens, boolean stream,
+    public OpenAIAnswerRequest(String modelName, double temperature, double topP, int maxTokens, boolean stream, List<String> stop, Map<String, Object> jsonSchema,
                                String prompt, String developer, String chatState, List<ConversationVO> conversations, String context, String query) {
         this.stream = stream;
         this.maxTokens = maxTokens;
+        this.stop = stop;
+        this.responseFormat = jsonSchema == null ? null : new ResponseFormat("json_schema", new JsonSchema("output", jsonSchema, isStrictSchema(jsonSchema)));
         this.topP = topP;
         this.temperature = temperature;
         this.model = modelName;
@@ -78,6 +92,39 @@ public class OpenAIAnswerRequest {
         }
     }
 
+    /**
+     * strict 모드 적용 가능 스키마 여부
+     * 모든 object 스키마가 추가 속성을 금지하고 전체 속성을 필수로 지정해야 함 (미충족 시 strict 요청은 400 응답)
+     *
+     * @param schema JSON 스키마
+     * @return strict 모드 적용 가능 여부
+     */
+    public static boolean isStrictSchema(Object schema) {
+
+        if (schema instanceof List<?> items) {
+            return items.stream().allMatch(OpenAIAnswerRequest::isStrictSchema);
+        }
+
+        if (!(schema instanceof Map<?, ?> schemaMap)) {
+            return true;
+        }
+
+        if ("object".equals(schemaMap.get("type"))) {
+            Object properties = schemaMap.get("properties");
+            Object required = schemaMap.get("required");
+
+            if (!Boolean.FALSE.equals(schemaMap.get("additionalProperties"))) {
+                return false;
+            }
+            if (properties instanceof Map<?, ?> propertyMap
+                    && !(required instanceof List<?> requiredList && requiredList.containsAll(propertyMap.keySet()))) {
+                return false;
+            }
+        }
+
+        return schemaMap.values().stream().allMatch(OpenAIAnswerRequest::isStrictSchema);
+    }
+
     @Builder
     @ToString
     @Getter
@@ -88,4 +135,15 @@ public class OpenAIAnswerRequest {
 
         private final String content;
     }
+
+    public record ResponseFormat(
+            @JsonProperty("type") String type,
+            @JsonProperty("json_schema") JsonSchema jsonSchema
+    ) {}
+
+    public record JsonSchema(
+            @JsonProperty("name") String name,
+            @JsonProperty("schema") Map<String, Object> schema,
+            @JsonProperty("strict") boolean strict
+    ) {}
 }
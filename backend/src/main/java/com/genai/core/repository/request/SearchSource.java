@@ -0,0 +1,10 @@
+package com.genai.core.repository.request;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record SearchSource(List<String> includes, List<String> excludes) {}
@@ -1,5 +1,7 @@
 package com.genai.core.repository.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +21,18 @@ public class VectorSearchRequest {
 
     private final Query query;
 
-    public static Query query(List<String> fields, List<Float> vector, List<String> aliases) {
+    @JsonProperty("_source")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final SearchSource source;
+
+    public static SearchSource source(List<String> includes, List<String> excludes) {
+        return SearchSource.builder()
+                .includes(includes)
+                .excludes(excludes)
+                .build();
+    }
+
+    public static Query query(List<String> fields, float[] vector, List<String> aliases) {
 
         Map<String, Field> knn = new HashMap<>();
 
@@ -66,6 +79,6 @@ public class VectorSearchRequest {
     }
 
     @Builder
-    public record Field(int k, List<Float> vector) {}
+    public record Field(int k, float[] vector) {}
 
 }
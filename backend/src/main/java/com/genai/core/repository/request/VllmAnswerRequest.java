@@ -1,5 +1,6 @@
 package com.genai.core.repository.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.genai.core.service.module.vo.ConversationVO;
 import lombok.AllArgsConstructor;
@@ -9,10 +10,11 @@ import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @ToString
 @Getter
-public class VllmAnswerRequest {
+public class VllmAnswerRequest implements AnswerRequest {
 
     @JsonProperty("model")
     @ToString.Include(name = "model")
@@ -38,11 +40,23 @@ public class VllmAnswerRequest {
     @ToString.Include(name = "messages")
     private final List<Message> messages;
 
+    @JsonProperty("stop")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @ToString.Include(name = "stop")
+    private final List<String> stop;
+
+    @JsonProperty("guided_json")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @ToString.Include(name = "guided_json")
+    private final Map<String, Object> guidedJson;
+
     @Builder
-    public VllmAnswerRequest(String modelName, double temperature, double topP, int maxTokens, boolean stream,
+    public VllmAnswerRequest(String modelName, double temperature, double topP, int maxTokens, boolean stream, List<String> stop, Map<String, Object> jsonSchema,
                              String prompt, String developer, String chatState, List<ConversationVO> conversations, String context, String query) {
         this.stream = stream;
         this.maxTokens = maxTokens;
+        this.stop = stop;
+        this.guidedJson = jsonSchema;
         this.topP = topP;
         this.temperature = temperature;
         this.model = modelName;
@@ -0,0 +1,20 @@
+package com.genai.core.repository.response;
+
+import com.genai.core.repository.entity.DocumentEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@ToString
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiSearchResponse<T extends DocumentEntity> {
+
+    private Integer took;
+
+    private List<SearchResponse<T>> responses;
+}
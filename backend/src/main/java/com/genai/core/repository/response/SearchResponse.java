@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 import java.util.List;
+import java.util.Map;
 
 @ToString
 @Getter
@@ -24,6 +25,11 @@ public class SearchResponse<T extends DocumentEntity> {
     @JsonProperty("hits")
     private Result<T> result;
 
+    // _msearch 개별 응답 상태 (실패 시 error 포함)
+    private Integer status;
+
+    private Map<String, Object> error;
+
     public record Result<T extends DocumentEntity>(
 
         Total total,
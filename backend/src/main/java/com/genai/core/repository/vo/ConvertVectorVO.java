@@ -5,8 +5,6 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
-import java.util.List;
-
 @ToString
 @Builder
 @Getter
@@ -27,5 +25,6 @@ public class ConvertVectorVO {
     @JsonAlias("vector")
     @JsonProperty("vector")
     @JsonInclude(JsonInclude.Include.NON_NULL)
-    private List<Float> vector;
+    @ToString.Exclude
+    private float[] vector;
 }
@@ -0,0 +1,36 @@
+package com.genai.core.repository.vo;
+
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.common.enums.LlmType;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@ToString
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmOptionVO {
+
+    // LLM 타입
+    @Builder.Default
+    private LlmType llmType = LlmType.DEFAULT;
+
+    // 요청 우선 순위
+    @Builder.Default
+    private LlmPriority priority = LlmPriority.MODULE;
+
+    // 라우팅 키 (동일 키 요청은 동일 Instance 로 라우팅, 미지정 시 프롬프트 ID)
+    private String routeKey;
+
+    // 최대 출력 토큰 수 (미지정 시 Instance 잔여 컨텍스트 기준)
+    private Integer maxTokens;
+
+    // 생성 중단 문자열 목록
+    private List<String> stopSequences;
+
+    // 출력 JSON 스키마 (구조화 출력)
+    private Map<String, Object> jsonSchema;
+}
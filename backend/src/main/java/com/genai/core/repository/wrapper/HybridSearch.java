@@ -0,0 +1,18 @@
+package com.genai.core.repository.wrapper;
+
+import com.genai.core.repository.entity.DocumentEntity;
+import lombok.*;
+
+import java.util.List;
+
+@ToString
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HybridSearch<T extends DocumentEntity> {
+
+    private List<Search<T>> keywordSearches;
+
+    private List<Search<T>> vectorSearches;
+}
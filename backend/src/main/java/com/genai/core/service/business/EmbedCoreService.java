@@ -15,8 +15,9 @@ public interface EmbedCoreService {
      * 임베딩 문서 동기화
      *
      * @param collectionType 컬렉션 타입
+     * @param categoryCode   카테고리 코드
      */
-    Mono<Void> syncEmbedSources(CollectionType collectionType, List<DocumentEntity> documentEntities, List<String> deleteDocumentIds);
+    Mono<Void> syncEmbedSources(CollectionType collectionType, String categoryCode, List<DocumentEntity> documentEntities, List<String> deleteDocumentIds);
 
     /**
      * 임베딩 문서 삭제
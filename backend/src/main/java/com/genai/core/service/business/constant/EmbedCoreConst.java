@@ -19,4 +19,5 @@ public class EmbedCoreConst {
     public static final String EMBED_UPDATE_STATE = "UPDATE_STATE_INSERT";
     public static final String EMBED_SOURCE_TYPE  = "EMBED_LIVE";
     public static final String EMBED_SELECT_TYPE  = "SELECT_TYPE_TOKEN";
+    public static final int    EMBED_BATCH_SIZE   = 100;
 }
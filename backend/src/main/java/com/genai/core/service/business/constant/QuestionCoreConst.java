@@ -1,20 +1,26 @@
 package com.genai.core.service.business.constant;
 
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.repository.vo.LlmOptionVO;
+
 import java.util.List;
 
 public class QuestionCoreConst {
 
+    // 시뮬레이션 LLM 요청 옵션 (사용자 대기 스트림)
+    public static final LlmOptionVO SIMULATION_LLM_OPTION = LlmOptionVO.builder().priority(LlmPriority.INTERACTIVE).build();
+
     // 멀티턴 참고 대화 이력 수
     public static final int     MULTITURN_TURN_CONVERSATION_COUNT = 5;
     public static final int     MULTITURN_TURNS                   = 3;
 
     // 검색 결과 상위 카운트 옵션
-    public static final double  SEARCH_SCORE_MIN  = 0.2;
     public static final int     KEYWORD_TOP_K     = 10;
     public static final int     VECTOR_TOP_K      = 10;
     public static final int     RERANK_TOP_K      = 3;
 
 
+
     /*
      * #######################################
      * 답변 불가 프롬프트
@@ -1,9 +1,14 @@
 package com.genai.core.service.business.constant;
 
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.repository.vo.LlmOptionVO;
+
 public class ReportCoreConst {
 
+    // LLM 요청 옵션 (사용자 대기 스트림)
+    public static final LlmOptionVO LLM_OPTION = LlmOptionVO.builder().priority(LlmPriority.INTERACTIVE).build();
+
     public static final int CHUNK_PART_TOKEN_SIZE   = 4500;
-    public static final int CHUNK_MAX_TOKEN_SIZE    = 58000;
 
     /*
      * #######################################
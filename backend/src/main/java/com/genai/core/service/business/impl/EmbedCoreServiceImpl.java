@@ -7,6 +7,7 @@ import com.genai.core.exception.NotFoundException;
 import com.genai.core.repository.CollectionRepository;
 import com.genai.core.repository.FileRepository;
 import com.genai.core.repository.SourceRepository;
+import com.genai.core.repository.cache.IndexVersionRegistry;
 import com.genai.core.repository.entity.*;
 import com.genai.core.service.business.EmbedCoreService;
 import com.genai.core.service.business.constant.EmbedCoreConst;
@@ -16,8 +17,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 import java.io.File;
@@ -34,6 +35,7 @@ public class EmbedCoreServiceImpl implements EmbedCoreService {
     private final FileRepository fileRepository;
     private final SourceRepository sourceRepository;
     private final CollectionRepository collectionRepository;
+    private final IndexVersionRegistry indexVersionRegistry;
     private final ChunkProperty chunkProperty;
 
     @Transactional
@@ -184,6 +186,7 @@ public class EmbedCoreServiceImpl implements EmbedCoreService {
         }
 
         return EmbedVO.builder()
+                .categoryCode(categoryCode)
                 .documentEntities(documentEntities)
                 .deleteDocumentIds(deleteDocumentIds)
                 .build();
@@ -193,26 +196,23 @@ public class EmbedCoreServiceImpl implements EmbedCoreService {
      * 임베딩 문서 동기화
      *
      * @param collectionType 컬렉션 타입
+     * @param categoryCode   카테고리 코드
      */
     @Override
-    public Mono<Void> syncEmbedSources(CollectionType collectionType, List<DocumentEntity> documentEntities, List<String> deleteDocumentIds) {
-        return Mono.fromRunnable(() -> {
-                    // 컬렉션 존재 여부 확인
-                    collectionRepository.findCollectionByCollectionId(collectionType.getCollectionId())
-                            .orElseThrow(() -> new NotFoundException(collectionType.getCollectionId()));
-
-                    // 벡터 변환
-                    List<DocumentEntity> indexDocumentEntities = new ArrayList<>();
-                    documentEntities.forEach(documentEntity ->
-                            indexDocumentEntities.addAll(collectionRepository.convertVector(collectionType.getCollectionId(), documentEntities)));
-
-                    // 멀티플 색인
-                    collectionRepository.createIndex(collectionType.getCollectionId(), indexDocumentEntities);
-
-                    // 색인 문서 삭제
-                    collectionRepository.deleteIndex(collectionType.getCollectionId(), deleteDocumentIds);
-                })
-                .subscribeOn(Schedulers.boundedElastic())
+    public Mono<Void> syncEmbedSources(CollectionType collectionType, String categoryCode, List<DocumentEntity> documentEntities, List<String> deleteDocumentIds) {
+        // 컬렉션 존재 여부 확인
+        return collectionRepository.findCollectionByCollectionIdAsync(collectionType.getCollectionId())
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(collectionType.getCollectionId())))
+                // 벡터 변환 (배치 단위)
+                .thenMany(Flux.fromIterable(documentEntities)
+                        .buffer(EmbedCoreConst.EMBED_BATCH_SIZE)
+                        .concatMap(batchDocumentEntities -> collectionRepository.convertVectorAsync(collectionType.getCollectionId(), batchDocumentEntities)))
+                .flatMapIterable(indexDocumentEntities -> indexDocumentEntities)
+                .collectList()
+                // 멀티플 색인
+                .flatMap(indexDocumentEntities -> collectionRepository.createIndexAsync(collectionType.getCollectionId(), indexDocumentEntities))
+                // 색인 문서 삭제
+                .then(Mono.defer(() -> collectionRepository.deleteIndexAsync(collectionType.getCollectionId(), deleteDocumentIds)))
                 .retryWhen(
                         Retry.fixedDelay(EmbedCoreConst.RETRY_COUNT, Duration.ofMillis(EmbedCoreConst.RETRY_DELAY))
                                 .doBeforeRetry(retrySignal -> {
@@ -221,7 +221,10 @@ public class EmbedCoreServiceImpl implements EmbedCoreService {
                                             EmbedCoreConst.RETRY_COUNT,
                                             retrySignal.failure().getMessage());
                                 })
-                ).then();
+                )
+                // 색인 변경 카테고리 버전 증가 (삭제만 발생한 경우 포함, 리랭킹 점수 캐시 무효화)
+                .doOnSuccess(ignored -> indexVersionRegistry.increaseVersion(categoryCode))
+                .then();
     }
 
     /**
@@ -261,6 +264,9 @@ public class EmbedCoreServiceImpl implements EmbedCoreService {
             collectionRepository.deleteIndex(collectionType.getCollectionId(), deleteDocumentIds);
         });
 
+        // 색인 변경 카테고리 버전 증가 (리랭킹 점수 캐시 무효화)
+        indexVersionRegistry.increaseVersion(categoryCode);
+
         // 대상 문서 삭제
         sourceRepository.deleteAll(sourceEntities);
     }
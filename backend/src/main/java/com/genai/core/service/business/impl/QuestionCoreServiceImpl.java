@@ -2,9 +2,15 @@ package com.genai.core.service.business.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.genai.core.common.enums.CoreLogMessage;
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.common.enums.LlmType;
+import com.genai.core.config.properties.ContextProperty;
+import com.genai.core.config.properties.SpeculativeSearchProperty;
 import com.genai.core.exception.NotFoundException;
 import com.genai.core.repository.*;
+import com.genai.core.repository.cache.AnswerCache;
 import com.genai.core.repository.entity.*;
+import com.genai.core.repository.vo.LlmOptionVO;
 import com.genai.core.repository.wrapper.Rerank;
 import com.genai.core.repository.wrapper.Search;
 import com.genai.core.service.business.QuestionCoreService;
@@ -14,10 +20,13 @@ import com.genai.core.service.business.vo.QuestionContextVO;
 import com.genai.core.service.business.vo.QuestionVO;
 import com.genai.core.service.module.ChatHistoryModuleService;
 import com.genai.core.service.module.QuestionModuleService;
+import com.genai.core.service.module.SearchModuleService;
 import com.genai.core.service.module.vo.ConversationVO;
 import com.genai.core.service.module.vo.MultiturnConversationVO;
 import com.genai.core.type.CollectionType;
 import com.genai.core.type.CollectionTypeFactory;
+import com.genai.core.utils.ContextCompressUtil;
+import com.genai.core.utils.ContextPackUtil;
 import com.genai.global.common.utils.ReactiveLogUtil;
 import com.genai.global.common.utils.StringUtil;
 import com.genai.global.stream.subscriber.StreamEvent;
@@ -26,7 +35,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.Sinks;
 
 import java.util.*;
 import java.util.regex.Pattern;
@@ -37,12 +46,15 @@ public class QuestionCoreServiceImpl implements QuestionCoreService {
 
     private final QuestionModuleService questionModuleService;
     private final ChatDetailRepository chatDetailRepository;
-    private final SearchRepository searchRepository;
+    private final SearchModuleService searchModuleService;
     private final ModelRepository modelRepository;
     private final PromptRepository promptRepository;
     private final ChatRepository chatRepository;
     private final CollectionTypeFactory collectionTypeFactory;
     private final ChatHistoryModuleService chatHistoryModuleService;
+    private final AnswerCache answerCache;
+    private final SpeculativeSearchProperty speculativeSearchProperty;
+    private final ContextProperty contextProperty;
     private final ObjectMapper objectMapper;
 
     /**
@@ -107,49 +119,50 @@ public class QuestionCoreServiceImpl implements QuestionCoreService {
                 .doOnEach(ReactiveLogUtil.info(CoreLogMessage.PREVIOUS_CONVERSATIONS_MESSAGE, v -> new Object[]{StringUtil.writeJson(v)}))
                 .cache();
 
-        // 질의 재정의
-        Mono<String> rewriteQueryMono = conversationMono
-                .flatMap(conversations -> questionModuleService.generateRewriteQuery(query, conversations))
-                .doOnEach(ReactiveLogUtil.info(CoreLogMessage.REWRITE_QUERY_MESSAGE, v -> new Object[]{v}))
-                .cache();
-
-        // 이전 대화 필터링 (멀티턴 대화 상세 목록)
-        Mono<MultiturnConversationVO> multiturnConversationMono = Mono.zip(conversationMono, rewriteQueryMono)
-                .flatMap(tuple -> questionModuleService.validMultiturn(tuple.getT2(), chatEntity.getState(), tuple.getT1()))
+        // 질의 계획 (질의 재정의 + 이전 대화 필터링 단일 요청)
+        Mono<MultiturnConversationVO> multiturnConversationMono = conversationMono
+                .flatMap(conversations -> questionModuleService.planQuery(query, chatEntity.getState(), conversations, collectionType.getTopicDetectType()))
                 .doOnEach(ReactiveLogUtil.info(CoreLogMessage.MULTITURN_CONVERSATIONS_MESSAGE, v -> new Object[]{
                         v.isChangeTopic(), StringUtil.writeJson(v.getConversations())
                 }))
                 .cache();
 
-        // 검색 Mono
-        Mono<List<Rerank>> rerankFlux = rewriteQueryMono.flatMap(rewriteQuery ->
-                        Mono.fromCallable(() -> {
-                            // 검색 결과 목록 (key 를 통한 중복 제거)
-                            Map<Long, Search<DocumentEntity>> searchEntityMap = new HashMap<>();
-
-                            // 키워드 검색
-                            List<Search<DocumentEntity>> keywordSearchEntities = searchRepository.keywordSearch(collectionType, rewriteQuery, QuestionCoreConst.KEYWORD_TOP_K, categoryCodes);
-                            keywordSearchEntities.forEach(searchEntity -> searchEntityMap.put(searchEntity.getFields().getChunkId(), searchEntity));
+        // 질의 재정의
+        Mono<String> rewriteQueryMono = multiturnConversationMono
+                .map(MultiturnConversationVO::getRewriteQuery)
+                .doOnEach(ReactiveLogUtil.info(CoreLogMessage.REWRITE_QUERY_MESSAGE, v -> new Object[]{v}))
+                .cache();
 
-                            // 벡터 검색
-                            List<Search<DocumentEntity>> vectorSearchEntities = searchRepository.vectorSearch(collectionType, rewriteQuery, QuestionCoreConst.VECTOR_TOP_K, categoryCodes);
-                            vectorSearchEntities.forEach(searchEntity -> searchEntityMap.put(searchEntity.getFields().getChunkId(), searchEntity));
+        // 답변 캐시 조회 (이전 대화가 없는 첫 질문만 대상)
+        Mono<AnswerCache.Entry> cachedAnswerMono = conversationMono
+                .filter(conversations -> conversations.isEmpty() && answerCache.isEnabled())
+                .flatMap(conversations -> Mono.justOrEmpty(answerCache.get(collectionType.getCollectionId(), categoryCodes, promptId, query)))
+                .doOnEach(ReactiveLogUtil.info(CoreLogMessage.ANSWER_CACHE_HIT_MESSAGE, v -> new Object[]{
+                        query, v.answer()
+                }))
+                .cache();
 
-                            // 키워드 검색 결과, 벡터 검색 결과 변환
-                            List<Rerank> rerankEntities = searchRepository.rerank(rewriteQuery, searchEntityMap.values().stream()
-                                    .filter(searchEntity -> searchEntity.getScore() >= QuestionCoreConst.SEARCH_SCORE_MIN)
-                                    .map(searchEntity -> Rerank.builder()
-                                            .document(searchEntity.getFields())
-                                            .build())
-                                    .toList());
+        // 검색 취소 신호 (스트림 취소 시 진행중인 검색 요청 중단)
+        Sinks.Empty<Void> searchCancelSink = Sinks.empty();
 
-                            // 상위 RERANK_TOP_K 개 추출
-                            return rerankEntities.subList(0, Math.min(QuestionCoreConst.RERANK_TOP_K, rerankEntities.size()));
+        // 원 질의 선행 검색 (질의 재정의와 병렬 진행, 실패 시 재정의 질의로 재검색)
+        Mono<List<Search<DocumentEntity>>> speculativeSearchMono = cachedAnswerMono.hasElement()
+                .filter(isCached -> !isCached && speculativeSearchProperty.isEnabled())
+                .flatMap(isCached -> searchModuleService.hybridSearch(collectionType, query, QuestionCoreConst.KEYWORD_TOP_K, QuestionCoreConst.VECTOR_TOP_K, categoryCodes))
+                .onErrorResume(throwable -> Mono.empty())
+                .cache();
 
-                        }).subscribeOn(Schedulers.boundedElastic()))
+        // 검색 Mono (답변 캐시 적중 시 캐시된 참고 문서 사용)
+        Mono<List<Rerank>> rerankFlux = cachedAnswerMono
+                .map(AnswerCache.Entry::reranks)
+                .switchIfEmpty(Flux.merge(
+                        speculativeSearchMono.then(Mono.<List<Rerank>>empty()),
+                        rewriteQueryMono.flatMap(rewriteQuery -> this.search(collectionType, query, rewriteQuery, categoryCodes, speculativeSearchMono))
+                ).next())
                 .doOnEach(ReactiveLogUtil.info(CoreLogMessage.RERANK_MESSAGE, v -> new Object[]{
                         StringUtil.writeJson(v)
                 }))
+                .takeUntilOther(searchCancelSink.asMono())
                 .cache();
 
         // 컨텍스트 Mono
@@ -176,17 +189,36 @@ public class QuestionCoreServiceImpl implements QuestionCoreService {
                     String rewriteQuery = ctx.getRewriteQuery();
                     List<Rerank> rerankEntities = ctx.getReranks();
 
-                    StringBuilder contextBuilder = new StringBuilder();
-                    for (Rerank rerank : rerankEntities) {
-                        contextBuilder.append("# ").append(rerank.getDocument().getTitle()).append("\n");
-                        contextBuilder.append("## ").append(rerank.getDocument().getSubTitle()).append("\n");
-                        contextBuilder.append("### ").append(rerank.getDocument().getThirdTitle()).append("\n");
-                        contextBuilder.append(rerank.getDocument().getCompactContent()).append("\n");
-                        contextBuilder.append(rerank.getDocument().getSubContent()).append("\n");
-                    }
-
-                    // 답변 요청
-                    return modelRepository.generateStreamAnswerAsync(rewriteQuery, contextBuilder.toString().trim(), chatEntity.getState(), multiturnConversations, promptEntity);
+                    // 답변 요청 (답변 캐시 적중 시 캐시된 답변 재생, 미적중 시에만 컨텍스트 구성)
+                    return cachedAnswerMono
+                            .map(cachedAnswer -> AnswerEntity.builder()
+                                    .id(StringUtil.generateRandomId())
+                                    .content(cachedAnswer.answer())
+                                    .isInference(false)
+                                    .build())
+                            .flux()
+                            .switchIfEmpty(Flux.defer(() -> {
+
+                                // 리랭킹 점수 순으로 토큰 예산 내 컨텍스트 구성 (청크별 질의 관련 문장 추출 압축)
+                                List<String> contextSections = rerankEntities.stream()
+                                        .map(rerank -> "# " + rerank.getDocument().getTitle() + "\n" +
+                                                "## " + rerank.getDocument().getSubTitle() + "\n" +
+                                                "### " + rerank.getDocument().getThirdTitle() + "\n" +
+                                                ContextCompressUtil.compress(rerank.getDocument().getCompactContent(), rewriteQuery, contextProperty.getChunkKeepRatio(), contextProperty.getChunkMaxTokens()) + "\n" +
+                                                rerank.getDocument().getSubContent())
+                                        .toList();
+
+                                // 설정 토큰 수와 모델 컨텍스트 한도 중 작은 값
+                                int contextTokens = Math.min(contextProperty.getQuestionMaxTokens(),
+                                        modelRepository.getContextTokenLimit(LlmType.DEFAULT, promptEntity, rewriteQuery, chatEntity.getState(), multiturnConversations));
+
+                                String context = ContextPackUtil.pack(contextSections, "\n", contextTokens);
+
+                                return modelRepository.generateStreamAnswerAsync(rewriteQuery, context, chatEntity.getState(), multiturnConversations, promptEntity, LlmOptionVO.builder()
+                                        .priority(LlmPriority.INTERACTIVE)
+                                        .routeKey("chat:" + chatId)
+                                        .build());
+                            }));
                 })
                 .doOnNext(answerEntity -> {
                     if (!answerEntity.getIsInference()) {
@@ -277,7 +309,13 @@ public class QuestionCoreServiceImpl implements QuestionCoreService {
                     .then()
                     .doOnEach(ReactiveLogUtil.info(CoreLogMessage.CHAT_HISTORY_SAVE_MESSAGE, v -> new Object[]{
                             chatId, chatDetailEntity.getMsgId(), query, rewriteQuery, answer
-                    }));
+                    }))
+                    // 답변 캐시 적재 (첫 질문, 캐시 미적중 답변만 적재)
+                    .then(cachedAnswerMono.hasElement())
+                    .filter(isCached -> !isCached && answerCache.isEnabled() && ctx.getConversations().isEmpty() && !answer.isEmpty())
+                    .doOnNext(isCached -> answerCache.put(collectionType.getCollectionId(), categoryCodes, promptId, query,
+                            new AnswerCache.Entry(answer, rerankEntities)))
+                    .then();
         });
 
         // 대화 상태 요약
@@ -300,8 +338,14 @@ public class QuestionCoreServiceImpl implements QuestionCoreService {
         // 스트림 Flux
         Flux<StreamEvent> streamFlux = Flux.concat(answerFlux, referenceMono)
                 .concatWith(chatHistoryMono.then(Mono.empty()))
-                .doOnCancel(() -> chatHistoryModuleService.deleteChatDetail(chatDetailEntity.getMsgId()))
-                .doOnError(throwable -> chatHistoryModuleService.deleteChatDetail(chatDetailEntity.getMsgId()))
+                .doOnCancel(() -> {
+                    searchCancelSink.tryEmitEmpty();
+                    chatHistoryModuleService.deleteChatDetail(chatDetailEntity.getMsgId());
+                })
+                .doOnError(throwable -> {
+                    searchCancelSink.tryEmitEmpty();
+                    chatHistoryModuleService.deleteChatDetail(chatDetailEntity.getMsgId());
+                })
                 .onErrorMap(throwable -> new RuntimeException("스트림 처리 중 예외 발생", throwable));
 
         return QuestionVO.builder()
@@ -311,6 +355,47 @@ public class QuestionCoreServiceImpl implements QuestionCoreService {
                 .build();
     }
 
+    /**
+     * 검색 & 리랭킹
+     * 재정의 질의가 원 질의와 유사하면 원 질의 선행 검색 결과를 사용하고, 그렇지 않으면 재정의 질의로 검색
+     * 모든 요청은 Non-Blocking 으로 처리되어 취소 시 진행중인 요청이 즉시 중단됨
+     *
+     * @param collectionType        컬렉션 타입
+     * @param query                 원 질의
+     * @param rewriteQuery          재정의 질의
+     * @param categoryCodes         검색 필터
+     * @param speculativeSearchMono 원 질의 선행 검색 Mono
+     * @return 리랭킹 문서 목록 Mono
+     */
+    private Mono<List<Rerank>> search(CollectionType collectionType, String query, String rewriteQuery, List<String> categoryCodes, Mono<List<Search<DocumentEntity>>> speculativeSearchMono) {
+
+        Mono<List<Search<DocumentEntity>>> rewriteSearchMono = Mono.defer(() ->
+                searchModuleService.hybridSearch(collectionType, rewriteQuery, QuestionCoreConst.KEYWORD_TOP_K, QuestionCoreConst.VECTOR_TOP_K, categoryCodes));
+
+        Mono<List<Search<DocumentEntity>>> candidateMono = this.isSimilarQuery(query, rewriteQuery)
+                ? speculativeSearchMono.switchIfEmpty(rewriteSearchMono)
+                : rewriteSearchMono;
+
+        return candidateMono
+                .flatMap(candidates -> searchModuleService.rerank(rewriteQuery, candidates, QuestionCoreConst.RERANK_TOP_K));
+    }
+
+    /**
+     * 원 질의 / 재정의 질의 유사 여부
+     *
+     * @param query        원 질의
+     * @param rewriteQuery 재정의 질의
+     * @return 유사 여부
+     */
+    private boolean isSimilarQuery(String query, String rewriteQuery) {
+
+        String normalizedQuery = StringUtil.normalizeQuery(query);
+        String normalizedRewriteQuery = StringUtil.normalizeQuery(rewriteQuery);
+
+        return normalizedQuery.equals(normalizedRewriteQuery)
+                || StringUtil.cosineSimilarity(normalizedQuery, normalizedRewriteQuery) >= speculativeSearchProperty.getSimilarityThreshold();
+    }
+
     /**
      * LLM 질문 & 답변
      *
@@ -341,20 +426,20 @@ public class QuestionCoreServiceImpl implements QuestionCoreService {
                 .doOnEach(ReactiveLogUtil.info(CoreLogMessage.PREVIOUS_CONVERSATIONS_MESSAGE, v -> new Object[]{StringUtil.writeJson(v)}))
                 .cache();
 
-        // 질의 재정의
-        Mono<String> rewriteQueryMono = conversationMono
-                .flatMap(conversations -> questionModuleService.generateRewriteQuery(query, conversations))
-                .doOnEach(ReactiveLogUtil.info(CoreLogMessage.REWRITE_QUERY_MESSAGE, v -> new Object[]{v}))
-                .cache();
-
-        // 이전 대화 필터링 (멀티턴 대화 상세 목록)
-        Mono<MultiturnConversationVO> multiturnConversationMono = Mono.zip(conversationMono, rewriteQueryMono)
-                .flatMap(tuple -> questionModuleService.validMultiturn(tuple.getT2(), chatEntity.getState(), tuple.getT1()))
+        // 질의 계획 (질의 재정의 + 이전 대화 필터링 단일 요청)
+        Mono<MultiturnConversationVO> multiturnConversationMono = conversationMono
+                .flatMap(conversations -> questionModuleService.planQuery(query, chatEntity.getState(), conversations))
                 .doOnEach(ReactiveLogUtil.info(CoreLogMessage.MULTITURN_CONVERSATIONS_MESSAGE, v -> new Object[]{
                         v.isChangeTopic(), StringUtil.writeJson(v.getConversations())
                 }))
                 .cache();
 
+        // 질의 재정의
+        Mono<String> rewriteQueryMono = multiturnConversationMono
+                .map(MultiturnConversationVO::getRewriteQuery)
+                .doOnEach(ReactiveLogUtil.info(CoreLogMessage.REWRITE_QUERY_MESSAGE, v -> new Object[]{v}))
+                .cache();
+
         // 컨텍스트 생성
         Mono<QuestionContextVO> contextMono = Mono.zip(multiturnConversationMono, conversationMono, rewriteQueryMono)
                 .map(tuple -> QuestionContextVO.builder()
@@ -379,7 +464,10 @@ public class QuestionCoreServiceImpl implements QuestionCoreService {
                     List<ConversationVO> multiturnConversations = ctx.getMultiturnConversations();
                     String rewriteQuery = ctx.getRewriteQuery();
 
-                    return modelRepository.generateStreamAnswerAsync(rewriteQuery, null, chatEntity.getState(), multiturnConversations, promptEntity);
+                    return modelRepository.generateStreamAnswerAsync(rewriteQuery, null, chatEntity.getState(), multiturnConversations, promptEntity, LlmOptionVO.builder()
+                            .priority(LlmPriority.INTERACTIVE)
+                            .routeKey("chat:" + chatId)
+                            .build());
                 })
                 .doOnNext(answerEntity -> {
                     if (!answerEntity.getIsInference()) {
@@ -479,7 +567,7 @@ public class QuestionCoreServiceImpl implements QuestionCoreService {
         StringBuilder answerAccumulator = new StringBuilder();
 
         // 답변 Flux
-        Flux<StreamEvent> answerFlux = modelRepository.generateStreamAnswerAsync(query, context, null, Collections.emptyList(), promptEntity)
+        Flux<StreamEvent> answerFlux = modelRepository.generateStreamAnswerAsync(query, context, null, Collections.emptyList(), promptEntity, QuestionCoreConst.SIMULATION_LLM_OPTION)
                 .doOnNext(answerEntity -> {
                     if (!answerEntity.getIsInference()) {
                         answerAccumulator.append(answerEntity.getContent());
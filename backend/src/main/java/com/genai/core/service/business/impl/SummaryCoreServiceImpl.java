@@ -2,6 +2,7 @@ package com.genai.core.service.business.impl;
 
 import com.genai.core.common.constant.PromptConst;
 import com.genai.core.common.enums.CoreLogMessage;
+import com.genai.core.config.properties.ContextProperty;
 import com.genai.core.exception.NotFoundException;
 import com.genai.core.repository.ChatDetailRepository;
 import com.genai.core.repository.ChatRepository;
@@ -18,6 +19,7 @@ import com.genai.core.service.module.ChatHistoryModuleService;
 import com.genai.core.service.module.SummaryModuleService;
 import com.genai.core.service.module.vo.PartExportContextVO;
 import com.genai.core.service.module.vo.PartExportState;
+import com.genai.core.utils.ContextPackUtil;
 import com.genai.global.common.utils.*;
 import com.genai.global.common.vo.UploadFileVO;
 import com.genai.global.stream.subscriber.StreamEvent;
@@ -41,6 +43,7 @@ public class SummaryCoreServiceImpl implements SummaryCoreService {
     private final ChatDetailRepository chatDetailRepository;
     private final SummaryModuleService summaryModuleService;
     private final ChatHistoryModuleService chatHistoryModuleService;
+    private final ContextProperty contextProperty;
 
     /**
      * 파일 요약
@@ -120,26 +123,23 @@ public class SummaryCoreServiceImpl implements SummaryCoreService {
 
         Flux<PartExportContextVO> partExportFlux = summaryModuleService.partExport(PartExportState.init(contents)).cache();
 
+        // 병합 컨텍스트 토큰 수 (설정 토큰 수와 모델 컨텍스트 한도 중 작은 값)
+        int contextTokens = Math.min(contextProperty.getDocumentMaxTokens(), Math.min(
+                modelRepository.getContextTokenLimit(SummaryCoreConst.LLM_OPTION.getLlmType(), promptEntity, query, "", Collections.emptyList()),
+                modelRepository.getContextTokenLimit(SummaryCoreConst.LLM_OPTION.getLlmType(), promptEntity, fullQuery, "", Collections.emptyList())));
+
         Mono<String> wholePartExportMono = partExportFlux
                 .filter(PartExportContextVO::isLast)
                 .sort(Comparator.comparingInt(PartExportContextVO::getIndex))
                 .collectList()
                 .map(partExportContexts -> {
-                    StringBuilder partAccumulator = new StringBuilder();
-
-                    for (PartExportContextVO partExportContext : partExportContexts) {
-                        partAccumulator
-                                .append("# 핵심 부분 추출(").append(partExportContext.getIndex()).append(")\n")
-                                .append(partExportContext.getPartExport());
-
-                        if (partExportContext.getIndex() < partExportContexts.size() - 1) {
-                            partAccumulator.append("\n\n---\n\n");
-                        }
-                    }
+                    List<String> partSections = partExportContexts.stream()
+                            .map(partExportContext -> "# 핵심 부분 추출(" + partExportContext.getIndex() + ")\n" + partExportContext.getPartExport())
+                            .toList();
 
-                    return partAccumulator.toString().trim();
+                    // 토큰 예산 내 병합 (예산 초과 시 마지막 부분은 문장 단위로 자르기)
+                    return ContextPackUtil.pack(partSections, "\n\n---\n\n", contextTokens);
                 })
-                .map(wholePartExport -> wholePartExport.substring(0, Math.min(wholePartExport.length(), SummaryCoreConst.CHUNK_MAX_TOKEN_SIZE)))
                 .doOnEach(ReactiveLogUtil.info(CoreLogMessage.WHOLE_PART_EXPORT_MESSAGE, v -> new Object[]{
                         StringUtil.writeJson(contents), v
                 }))
@@ -147,14 +147,14 @@ public class SummaryCoreServiceImpl implements SummaryCoreService {
 
         // 간단 요약
         Flux<StreamEvent> summaryFlux = wholePartExportMono
-                .flatMapMany(wholePartExport -> modelRepository.generateStreamAnswerAsync(query, wholePartExport, "", Collections.emptyList(), promptEntity))
+                .flatMapMany(wholePartExport -> modelRepository.generateStreamAnswerAsync(query, wholePartExport, "", Collections.emptyList(), promptEntity, SummaryCoreConst.LLM_OPTION))
                 .filter(answerEntity -> !answerEntity.getIsInference())
                 .doOnNext(answerEntity -> answerAccumulator.append(answerEntity.getContent()))
                 .map(answerEntity -> StreamEvent.answer(answerEntity.getId(), SummaryResultVO.ratio(answerEntity.getContent())));
 
         // 상세 요약
         Flux<StreamEvent> fullSummaryFlux = wholePartExportMono
-                .flatMapMany(wholePartExport -> modelRepository.generateStreamAnswerAsync(fullQuery, wholePartExport, "", Collections.emptyList(), promptEntity))
+                .flatMapMany(wholePartExport -> modelRepository.generateStreamAnswerAsync(fullQuery, wholePartExport, "", Collections.emptyList(), promptEntity, SummaryCoreConst.LLM_OPTION))
                 .filter(answerEntity -> !answerEntity.getIsInference())
                 .doOnNext(answerEntity -> fullAnswerAccumulator.append(answerEntity.getContent()))
                 .map(answerEntity -> StreamEvent.answer(answerEntity.getId(), SummaryResultVO.full(answerEntity.getContent())));
@@ -12,6 +12,8 @@ import java.util.List;
 @AllArgsConstructor
 public class EmbedVO {
 
+    private final String categoryCode;
+
     private final List<DocumentEntity> documentEntities;
 
     private final List<String> deleteDocumentIds;
@@ -1,5 +1,6 @@
 package com.genai.core.service.module;
 
+import com.genai.core.common.enums.TopicDetectType;
 import com.genai.core.service.module.vo.ConversationVO;
 import com.genai.core.service.module.vo.MultiturnConversationVO;
 import reactor.core.publisher.Mono;
@@ -44,4 +45,25 @@ public interface QuestionModuleService {
      * @return 멀티턴 여부
      */
     Mono<MultiturnConversationVO> validMultiturn(String query, String chatState, List<ConversationVO> conversations);
+
+    /**
+     * 질의 계획 (질의 재작성 + 멀티턴 여부 확인 단일 요청)
+     *
+     * @param query         질의문
+     * @param chatState     이전 대화 상태 (주제)
+     * @param conversations 대화 이력 목록
+     * @return 재작성 질의를 포함한 멀티턴 대화 이력
+     */
+    Mono<MultiturnConversationVO> planQuery(String query, String chatState, List<ConversationVO> conversations);
+
+    /**
+     * 질의 계획 (컬렉션별 토픽 판별 방식 적용)
+     *
+     * @param query           질의문
+     * @param chatState       이전 대화 상태 (주제)
+     * @param conversations   대화 이력 목록
+     * @param topicDetectType 토픽 판별 방식
+     * @return 재작성 질의를 포함한 멀티턴 대화 이력
+     */
+    Mono<MultiturnConversationVO> planQuery(String query, String chatState, List<ConversationVO> conversations, TopicDetectType topicDetectType);
 }
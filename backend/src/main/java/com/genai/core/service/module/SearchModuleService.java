@@ -0,0 +1,35 @@
+package com.genai.core.service.module;
+
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.wrapper.Rerank;
+import com.genai.core.repository.wrapper.Search;
+import com.genai.core.type.CollectionType;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface SearchModuleService {
+
+    /**
+     * 하이브리드 검색
+     * 키워드 검색과 벡터 검색을 단일 요청으로 조회하고, 두 순위 목록을 병합 (RRF / Min-Max) 하여 상위 후보 목록 반환
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param keywordTopK    키워드 검색 상위 카운트
+     * @param vectorTopK     벡터 검색 상위 카운트
+     * @param categoryCodes  검색 필터
+     * @return 병합 점수 내림차순 후보 목록 Mono
+     */
+    Mono<List<Search<DocumentEntity>>> hybridSearch(CollectionType collectionType, String query, int keywordTopK, int vectorTopK, List<String> categoryCodes);
+
+    /**
+     * 리랭킹
+     *
+     * @param query    질의문
+     * @param searches 후보 목록
+     * @param topK     리랭킹 상위 카운트
+     * @return 리랭킹 문서 목록 Mono
+     */
+    Mono<List<Rerank>> rerank(String query, List<Search<DocumentEntity>> searches, int topK);
+}
@@ -1,8 +1,20 @@
 package com.genai.core.service.module.constant;
 
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.common.enums.LlmType;
+import com.genai.core.repository.vo.LlmOptionVO;
+
+import java.util.List;
+import java.util.Map;
+
 public class QuestionModuleConst {
 
-    // 질의 재정의 설정
+    // 질의 재정의 설정 (질의 재작성 / 멀티턴 판단은 답변 대기 시간에 포함, 분류성 요청은 경량 모델 사용)
+    public static final LlmOptionVO REWRITE_QUERY_LLM_OPTION = LlmOptionVO.builder()
+            .llmType(LlmType.FAST)
+            .priority(LlmPriority.INTERACTIVE)
+            .maxTokens(512)
+            .build();
     public static final double REWRITE_QUERY_TEMPERATURE = 0.1;
     public static final double REWRITE_QUERY_TOP_P       = 0.9;
     public static final String REWRITE_QUERY_PROMPT      = """
@@ -24,6 +36,19 @@ public class QuestionModuleConst {
     """;
 
     // 답변 상태 설정
+    public static final LlmOptionVO CHAT_STATE_LLM_OPTION = LlmOptionVO.builder()
+            .llmType(LlmType.FAST)
+            .priority(LlmPriority.MODULE)
+            .maxTokens(512)
+            .jsonSchema(Map.of(
+                    "type", "object",
+                    "additionalProperties", false,
+                    "properties", Map.of(
+                            "topic_title", Map.of("type", "string"),
+                            "topic_summary", Map.of("type", "string"),
+                            "keywords", Map.of("type", "array", "items", Map.of("type", "string"), "maxItems", 5)),
+                    "required", List.of("topic_title", "topic_summary", "keywords")))
+            .build();
     public static final double CHAT_STATE_UPDATE_TEMPERATURE = 0.2;
     public static final double CHAT_STATE_UPDATE_TOP_P       = 0.9;
     public static final String CHAT_STATE_UPDATE_PROMPT      = """
@@ -81,6 +106,18 @@ public class QuestionModuleConst {
     """;
 
     // 멀티턴 여부 판별 설정
+    public static final LlmOptionVO VALID_MULTITURN_LLM_OPTION = LlmOptionVO.builder()
+            .llmType(LlmType.FAST)
+            .priority(LlmPriority.INTERACTIVE)
+            .maxTokens(256)
+            .jsonSchema(Map.of(
+                    "type", "object",
+                    "additionalProperties", false,
+                    "properties", Map.of(
+                            "isChangeTopic", Map.of("type", "boolean"),
+                            "conversationIds", Map.of("type", "array", "items", Map.of("type", "integer"))),
+                    "required", List.of("isChangeTopic", "conversationIds")))
+            .build();
     public static final double VALID_MULTITURN_TEMPERATURE = 0.1;
     public static final double VALID_MULTITURN_TOP_P       = 0.9;
     public static final String VALID_MULTITURN_PROMPT      = """
@@ -182,4 +219,77 @@ public class QuestionModuleConst {
       "conversationIds": []
     }
     """;
+
+    // 질의 계획 설정 (질의 재작성 + 멀티턴 여부 판별 단일 요청)
+    public static final LlmOptionVO QUERY_PLAN_LLM_OPTION = LlmOptionVO.builder()
+            .llmType(LlmType.FAST)
+            .priority(LlmPriority.INTERACTIVE)
+            .maxTokens(768)
+            .jsonSchema(Map.of(
+                    "type", "object",
+                    "additionalProperties", false,
+                    "properties", Map.of(
+                            "rewriteQuery", Map.of("type", "string"),
+                            "isChangeTopic", Map.of("type", "boolean"),
+                            "conversationIds", Map.of("type", "array", "items", Map.of("type", "integer"))),
+                    "required", List.of("rewriteQuery", "isChangeTopic", "conversationIds")))
+            .build();
+    public static final double  QUERY_PLAN_TEMPERATURE = 0.1;
+    public static final double  QUERY_PLAN_TOP_P       = 0.9;
+    public static final String  QUERY_PLAN_PROMPT      = """
+    당신의 역할은 멀티턴 RAG 시스템의 "질의 계획기"이다.
+    현재 사용자 질의와 이전 대화 이력을 분석하여 다음 세 가지를 한 번에 결정한다.
+    
+    1. 문서 검색에 적합한 재작성 질의
+    2. 현재 질문을 이해하는 데 필요한 이전 대화 이력 ID 목록
+    3. 현재 질문이 기존 대화 주제를 이어가는지 또는 새로운 주제인지 여부
+    
+    # 입력 정보
+    
+    1. Current Query (사용자 현재 질의)
+    
+    2. Previous Conversations (이전 대화 이력)
+       - ID (대화 이력 ID)
+       - Q (이전 사용자 질의)
+       - A (이전 시스템 답변)
+    
+    3. Conversation State (현재 저장된 토픽)
+    
+    # 질의 재작성 규칙
+    
+    1. 절대로 답변을 생성하지 말 것.
+    2. 추론, 판단, 조언을 추가하지 말 것.
+    3. 이전 대화 맥락을 참고하여 생략된 주어, 대상, 목적을 복원할 것.
+    4. 새로운 주제인 경우 현재 질의를 그대로 유지할 것.
+    5. 불필요한 수식어는 제거하고 검색용 질문 문장 하나로 작성할 것.
+    
+    # 멀티턴 대화 선택 기준
+    
+    다음 중 하나라도 해당하면 해당 대화 이력을 선택한다.
+    
+    1. 현재 질문이 이전 대화의 주제나 문제 상황을 이어서 묻는 경우
+    2. 현재 질문이 이전 답변을 전제로 하는 후속 질문인 경우
+    3. 현재 질문에 등장하는 대상, 개념, 코드, 설정, 문제 상황이 이전 대화에서 정의되었거나 설명된 경우
+    4. 현재 질문이 이전 답변의 수정, 확장, 추가 설명을 요청하는 경우
+    
+    단순 키워드만 겹치고 의미적으로 연결되지 않은 경우에는 선택하지 않는다.
+    
+    # 토픽 변경 판단 기준
+    
+    - 질문의 목적이나 문제 상황, 기술 주제 또는 작업 대상이 바뀐 경우 새로운 토픽으로 판단한다.
+    - 이전 답변을 기반으로 추가 질문을 하거나 동일한 문제 해결 과정을 이어가는 경우 기존 토픽을 유지한다.
+    
+    # 출력 규칙
+    
+    반드시 JSON 형식으로만 출력한다.
+    다른 설명이나 텍스트는 절대 출력하지 않는다.
+    
+    형식:
+    
+    {
+      "rewriteQuery": "재작성 질의",
+      "isChangeTopic": boolean,
+      "conversationIds": [ID 목록]
+    }
+    """;
 }
@@ -1,7 +1,14 @@
 package com.genai.core.service.module.constant;
 
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.common.enums.LlmType;
+import com.genai.core.repository.vo.LlmOptionVO;
+
 public class SummaryModuleConst {
 
+    // LLM 요청 옵션
+    public  static final LlmOptionVO LLM_OPTION = LlmOptionVO.builder().llmType(LlmType.BULK).priority(LlmPriority.BATCH).build();
+
     // 부분 요약
     public  static final int    BATCH_SIZE               = 10;
     public  static final double PART_SUMMARY_TEMPERATURE = 0.15;
@@ -1,9 +1,16 @@
 package com.genai.core.service.module.constant;
 
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.common.enums.LlmType;
+import com.genai.core.repository.vo.LlmOptionVO;
+
 public class TranslateModuleConst {
 
     public static final int BATCH_SIZE  = 10;
 
+    // LLM 요청 옵션
+    public static final LlmOptionVO LLM_OPTION = LlmOptionVO.builder().llmType(LlmType.BULK).priority(LlmPriority.BATCH).build();
+
     /*
      * #######################################
      * 부분 번역 프롬프트
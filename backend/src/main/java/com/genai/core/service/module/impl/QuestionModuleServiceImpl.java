@@ -2,8 +2,12 @@ package com.genai.core.service.module.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genai.core.common.enums.TopicDetectType;
+import com.genai.core.config.properties.QueryPlanProperty;
+import com.genai.core.config.properties.TopicDetectProperty;
 import com.genai.core.repository.ChatDetailRepository;
 import com.genai.core.repository.ModelRepository;
+import com.genai.core.repository.SearchRepository;
 import com.genai.core.repository.entity.ChatDetailEntity;
 import com.genai.core.repository.entity.PromptEntity;
 import com.genai.core.service.business.constant.QuestionCoreConst;
@@ -11,15 +15,19 @@ import com.genai.core.service.module.QuestionModuleService;
 import com.genai.core.service.module.constant.QuestionModuleConst;
 import com.genai.core.service.module.vo.ConversationVO;
 import com.genai.core.service.module.vo.MultiturnConversationVO;
+import com.genai.core.service.module.vo.QueryPlanVO;
 import com.genai.core.service.module.vo.ValidMultiturnVO;
+import com.genai.core.utils.VectorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -31,6 +39,9 @@ public class QuestionModuleServiceImpl implements QuestionModuleService {
 
     private final ChatDetailRepository chatDetailRepository;
     private final ModelRepository modelRepository;
+    private final SearchRepository searchRepository;
+    private final TopicDetectProperty topicDetectProperty;
+    private final QueryPlanProperty queryPlanProperty;
     private final ObjectMapper objectMapper;
 
     /**
@@ -79,7 +90,7 @@ public class QuestionModuleServiceImpl implements QuestionModuleService {
                 .build();
 
         return Mono.just(conversations)
-                .flatMap(targetConversions -> modelRepository.generateAnswerAsync(query, null, null, targetConversions, promptEntity))
+                .flatMap(targetConversions -> modelRepository.generateAnswerAsync(query, null, null, targetConversions, promptEntity, QuestionModuleConst.REWRITE_QUERY_LLM_OPTION))
                 .map(answerEntities -> {
 
                     StringBuilder answerBuilder = new StringBuilder();
@@ -113,7 +124,7 @@ public class QuestionModuleServiceImpl implements QuestionModuleService {
                 .topP(QuestionModuleConst.CHAT_STATE_UPDATE_TOP_P)
                 .build();
 
-        return modelRepository.generateAnswerAsync(query, null, null, conversations, promptEntity)
+        return modelRepository.generateAnswerAsync(query, null, null, conversations, promptEntity, QuestionModuleConst.CHAT_STATE_LLM_OPTION)
                 .map(answerEntities -> {
 
                     StringBuilder answerBuilder = new StringBuilder();
@@ -156,7 +167,7 @@ public class QuestionModuleServiceImpl implements QuestionModuleService {
         String context = "Current Query:\n```\n" + query + "\n```";
 
         return Mono.just(conversations)
-                .flatMap(targetConversions -> modelRepository.generateAnswerAsync(null, context, chatState, targetConversions, promptEntity))
+                .flatMap(targetConversions -> modelRepository.generateAnswerAsync(null, context, chatState, targetConversions, promptEntity, QuestionModuleConst.VALID_MULTITURN_LLM_OPTION))
                 .map(answerEntities -> {
 
                     StringBuilder answerBuilder = new StringBuilder();
@@ -198,4 +209,187 @@ public class QuestionModuleServiceImpl implements QuestionModuleService {
                     }
                 }).subscribeOn(Schedulers.boundedElastic());
     }
+
+    /**
+     * 질의 계획 (질의 재작성 + 멀티턴 여부 확인 단일 요청)
+     * 요청 또는 응답 JSON 변환에 실패하면 질의 재작성 → 멀티턴 여부 확인 순차 요청으로 대체
+     *
+     * @param query         질의문
+     * @param chatState     이전 대화 상태 (주제)
+     * @param conversations 대화 이력 목록
+     * @return 재작성 질의를 포함한 멀티턴 대화 이력
+     */
+    @Override
+    public Mono<MultiturnConversationVO> planQuery(String query, String chatState, List<ConversationVO> conversations) {
+
+        if (conversations.isEmpty()) {
+            return Mono.just(MultiturnConversationVO.builder()
+                    .isChangeTopic(false)
+                    .conversations(Collections.emptyList())
+                    .rewriteQuery(query)
+                    .build());
+        }
+
+        // 순차 요청 (질의 재작성 → 멀티턴 여부 확인)
+        Mono<MultiturnConversationVO> fallbackMono = Mono.defer(() -> this.generateRewriteQuery(query, conversations)
+                .flatMap(rewriteQuery -> this.validMultiturn(rewriteQuery, chatState, conversations)
+                        .map(multiturnConversation -> MultiturnConversationVO.builder()
+                                .isChangeTopic(multiturnConversation.isChangeTopic())
+                                .conversations(multiturnConversation.getConversations())
+                                .rewriteQuery(rewriteQuery)
+                                .build())));
+
+        if (!queryPlanProperty.isEnabled()) {
+            return fallbackMono;
+        }
+
+        PromptEntity promptEntity = PromptEntity.builder()
+                .promptContent(QuestionModuleConst.QUERY_PLAN_PROMPT)
+                .temperature(QuestionModuleConst.QUERY_PLAN_TEMPERATURE)
+                .topP(QuestionModuleConst.QUERY_PLAN_TOP_P)
+                .build();
+
+        String context = "Current Query:\n```\n" + query + "\n```";
+
+        return modelRepository.generateAnswerAsync(null, context, chatState, conversations, promptEntity, QuestionModuleConst.QUERY_PLAN_LLM_OPTION)
+                .map(answerEntities -> {
+
+                    StringBuilder answerBuilder = new StringBuilder();
+
+                    answerEntities.forEach(answerEntity -> {
+                        if (!answerEntity.getIsInference()) {
+                            answerBuilder.append(answerEntity.getContent());
+                        }
+                    });
+
+                    return answerBuilder.toString().trim();
+
+                })
+                .flatMap(answer -> {
+                    try {
+                        QueryPlanVO queryPlan = objectMapper.readValue(answer, QueryPlanVO.class);
+
+                        if (queryPlan.getRewriteQuery() == null || queryPlan.getRewriteQuery().isBlank()) {
+                            return Mono.<MultiturnConversationVO>empty();
+                        }
+
+                        List<Long> conversationIds = queryPlan.getConversationIds() == null
+                                ? Collections.emptyList()
+                                : queryPlan.getConversationIds();
+
+                        List<ConversationVO> multiturnConversations = conversations.stream()
+                                .filter(conversationVO -> conversationIds.contains(conversationVO.getId()))
+                                .toList();
+
+                        return Mono.just(MultiturnConversationVO.builder()
+                                .isChangeTopic(queryPlan.isChangeTopic())
+                                .conversations(multiturnConversations.subList(Math.max(0, multiturnConversations.size() - QuestionCoreConst.MULTITURN_TURNS), multiturnConversations.size()))
+                                .rewriteQuery(queryPlan.getRewriteQuery().trim())
+                                .build());
+
+                    } catch (JsonProcessingException e) {
+                        log.warn("질의 계획 응답 변환 실패, 순차 요청으로 대체 | {}", e.getMessage());
+                        return Mono.<MultiturnConversationVO>empty();
+                    }
+                })
+                // 질의 계획 요청 실패 (오류 응답 / 타임아웃) 시 순차 요청으로 대체
+                .onErrorResume(throwable -> {
+                    log.warn("질의 계획 요청 실패, 순차 요청으로 대체 | {}", throwable.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(fallbackMono)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 질의 계획 (컬렉션별 토픽 판별 방식 적용)
+     * 임베딩 판별 시 유사도로 멀티턴 대화를 선택하고, 선택된 대화가 있는 경우에만 질의 재작성 요청
+     * 임베딩 판별에 실패하면 LLM 질의 계획으로 대체
+     *
+     * @param query           질의문
+     * @param chatState       이전 대화 상태 (주제)
+     * @param conversations   대화 이력 목록
+     * @param topicDetectType 토픽 판별 방식
+     * @return 재작성 질의를 포함한 멀티턴 대화 이력
+     */
+    @Override
+    public Mono<MultiturnConversationVO> planQuery(String query, String chatState, List<ConversationVO> conversations, TopicDetectType topicDetectType) {
+
+        if (topicDetectType != TopicDetectType.EMBEDDING || conversations.isEmpty()) {
+            return this.planQuery(query, chatState, conversations);
+        }
+
+        return this.detectMultiturn(query, conversations)
+                .onErrorResume(throwable -> {
+                    log.warn("임베딩 토픽 판별 실패, LLM 질의 계획으로 대체 | {}", throwable.getMessage());
+                    return this.planQuery(query, chatState, conversations);
+                })
+                .flatMap(multiturnConversation -> {
+                    // 질의 재작성 완료 (LLM 질의 계획 대체) 또는 참고 대화가 없는 독립 질의
+                    if (multiturnConversation.getRewriteQuery() != null) {
+                        return Mono.just(multiturnConversation);
+                    }
+
+                    if (multiturnConversation.getConversations().isEmpty()) {
+                        return Mono.just(MultiturnConversationVO.builder()
+                                .isChangeTopic(multiturnConversation.isChangeTopic())
+                                .conversations(multiturnConversation.getConversations())
+                                .rewriteQuery(query)
+                                .build());
+                    }
+
+                    return this.generateRewriteQuery(query, multiturnConversation.getConversations())
+                            .map(rewriteQuery -> MultiturnConversationVO.builder()
+                                    .isChangeTopic(multiturnConversation.isChangeTopic())
+                                    .conversations(multiturnConversation.getConversations())
+                                    .rewriteQuery(rewriteQuery)
+                                    .build());
+                });
+    }
+
+    /**
+     * 임베딩 유사도 기반 멀티턴 참고 대화 선택 및 토픽 변경 판별
+     * 대화별 질의 벡터는 질의 벡터 캐시에서 재사용
+     *
+     * @param query         질의문
+     * @param conversations 대화 이력 목록
+     * @return 멀티턴 참고 대화 이력 목록 (재작성 질의 미포함)
+     */
+    private Mono<MultiturnConversationVO> detectMultiturn(String query, List<ConversationVO> conversations) {
+
+        Mono<float[]> queryVectorMono = searchRepository.convertQueryVectorAsync(query);
+
+        Mono<List<float[]>> conversationVectorsMono = Flux.fromIterable(conversations)
+                .flatMapSequential(conversation -> conversation.getQuery() == null || conversation.getQuery().isBlank()
+                        ? Mono.just(new float[0])
+                        : searchRepository.convertQueryVectorAsync(conversation.getQuery()))
+                .collectList();
+
+        return Mono.zip(queryVectorMono, conversationVectorsMono)
+                .map(tuple -> {
+                    float[] queryVector = tuple.getT1();
+                    List<float[]> conversationVectors = tuple.getT2();
+
+                    double maxSimilarity = 0.0;
+                    List<ConversationVO> multiturnConversations = new ArrayList<>();
+
+                    for (int index = 0; index < conversations.size(); index++) {
+                        double similarity = VectorUtil.cosineSimilarity(queryVector, conversationVectors.get(index));
+                        maxSimilarity = Math.max(maxSimilarity, similarity);
+
+                        if (similarity >= topicDetectProperty.getRelevantThreshold()) {
+                            multiturnConversations.add(conversations.get(index));
+                        }
+                    }
+
+                    boolean isChangeTopic = maxSimilarity < topicDetectProperty.getChangeThreshold();
+
+                    return MultiturnConversationVO.builder()
+                            .isChangeTopic(isChangeTopic)
+                            .conversations(isChangeTopic
+                                    ? Collections.emptyList()
+                                    : multiturnConversations.subList(Math.max(0, multiturnConversations.size() - QuestionCoreConst.MULTITURN_TURNS), multiturnConversations.size()))
+                            .build();
+                });
+    }
 }
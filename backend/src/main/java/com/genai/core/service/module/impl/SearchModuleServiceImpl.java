@@ -0,0 +1,138 @@
+package com.genai.core.service.module.impl;
+
+import com.genai.core.common.enums.FusionType;
+import com.genai.core.config.properties.FusionProperty;
+import com.genai.core.config.properties.RerankBatchProperty;
+import com.genai.core.repository.SearchRepository;
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.wrapper.Rerank;
+import com.genai.core.repository.wrapper.Search;
+import com.genai.core.service.module.SearchModuleService;
+import com.genai.core.type.CollectionType;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class SearchModuleServiceImpl implements SearchModuleService {
+
+    private final SearchRepository searchRepository;
+    private final FusionProperty fusionProperty;
+    private final FusionType fusionType;
+    private final RerankBatchProperty rerankBatchProperty;
+
+    public SearchModuleServiceImpl(SearchRepository searchRepository, FusionProperty fusionProperty, RerankBatchProperty rerankBatchProperty) {
+        this.searchRepository = searchRepository;
+        this.fusionProperty = fusionProperty;
+        this.fusionType = FusionType.valueOf(fusionProperty.getType().toUpperCase());
+        this.rerankBatchProperty = rerankBatchProperty;
+    }
+
+    /**
+     * 하이브리드 검색
+     * 키워드 검색과 벡터 검색을 단일 요청으로 조회하고, 두 순위 목록을 병합 (RRF / Min-Max) 하여 상위 후보 목록 반환
+     *
+     * @param collectionType 컬렉션 타입
+     * @param query          질의문
+     * @param keywordTopK    키워드 검색 상위 카운트
+     * @param vectorTopK     벡터 검색 상위 카운트
+     * @param categoryCodes  검색 필터
+     * @return 병합 점수 내림차순 후보 목록 Mono
+     */
+    @Override
+    public Mono<List<Search<DocumentEntity>>> hybridSearch(CollectionType collectionType, String query, int keywordTopK, int vectorTopK, List<String> categoryCodes) {
+
+        // 키워드 검색 + 벡터 검색 (단일 _msearch 요청)
+        return searchRepository.<DocumentEntity>hybridSearchAsync(collectionType, query, keywordTopK, vectorTopK, categoryCodes)
+                .map(hybridSearch -> fusionType.fuse(hybridSearch.getKeywordSearches(), hybridSearch.getVectorSearches(), fusionProperty).stream()
+                        // 병합 점수 기준 필터링 및 상위 N 개 추출
+                        .filter(search -> search.getScore() >= fusionProperty.getMinScore())
+                        .limit(fusionProperty.getTopN())
+                        .toList());
+    }
+
+    /**
+     * 리랭킹
+     * 후보를 병합 점수 순서대로 배치 분할하여 병렬 요청하고, 상위 topK 가 연속으로 변하지 않으면 남은 배치 요청을 중단
+     *
+     * @param query    질의문
+     * @param searches 후보 목록 (병합 점수 내림차순)
+     * @param topK     리랭킹 상위 카운트
+     * @return 리랭킹 문서 목록 Mono
+     */
+    @Override
+    public Mono<List<Rerank>> rerank(String query, List<Search<DocumentEntity>> searches, int topK) {
+
+        if (searches.isEmpty()) {
+            return Mono.just(Collections.emptyList());
+        }
+
+        List<Rerank> candidates = searches.stream()
+                .map(search -> Rerank.builder()
+                        .document(search.getFields())
+                        .build())
+                .toList();
+
+        // 단일 요청
+        if (!rerankBatchProperty.isEnabled() || candidates.size() <= rerankBatchProperty.getBatchSize()) {
+            return searchRepository.rerankAsync(query, candidates)
+                    .map(reranks -> selectTopK(reranks, topK));
+        }
+
+        // 배치 요청 (응답은 배치 순서대로 병합)
+        return Flux.fromIterable(candidates)
+                .buffer(rerankBatchProperty.getBatchSize())
+                .flatMapSequential(batchCandidates -> searchRepository.rerankAsync(query, batchCandidates), rerankBatchProperty.getMaxConcurrency())
+                .scan(new RerankState(Collections.emptyList(), 0), (state, reranks) -> this.mergeRerankState(state, reranks, topK))
+                // 상위 topK 안정화 시 조기 종료 (진행중인 배치 요청 취소)
+                .takeUntil(state -> state.stableCount() >= rerankBatchProperty.getStablePatience())
+                .last()
+                .map(RerankState::reranks);
+    }
+
+    /**
+     * 리랭킹 상위 topK 병합
+     *
+     * @param state   이전 리랭킹 상태
+     * @param reranks 배치 리랭킹 결과
+     * @param topK    리랭킹 상위 카운트
+     * @return 병합 리랭킹 상태
+     */
+    private RerankState mergeRerankState(RerankState state, List<Rerank> reranks, int topK) {
+
+        List<Rerank> mergedReranks = new ArrayList<>(state.reranks());
+        mergedReranks.addAll(reranks);
+
+        List<Rerank> topReranks = selectTopK(mergedReranks, topK);
+
+        // 상위 topK 가 채워진 상태에서 구성 변화가 없으면 안정 카운트 증가
+        boolean isStable = state.reranks().size() == topK && chunkIds(state.reranks()).equals(chunkIds(topReranks));
+
+        return new RerankState(topReranks, isStable ? state.stableCount() + 1 : 0);
+    }
+
+    /**
+     * 리랭킹 점수 기준 상위 topK 추출
+     *
+     * @param reranks 리랭킹 문서 목록
+     * @param topK    리랭킹 상위 카운트
+     * @return 상위 topK 리랭킹 문서 목록
+     */
+    private static List<Rerank> selectTopK(List<Rerank> reranks, int topK) {
+        return reranks.stream()
+                .sorted(Comparator.comparingDouble(Rerank::getRerankScore).reversed())
+                .limit(topK)
+                .toList();
+    }
+
+    private static Set<Long> chunkIds(List<Rerank> reranks) {
+        return reranks.stream()
+                .map(rerank -> rerank.getDocument().getChunkId())
+                .collect(Collectors.toSet());
+    }
+
+    private record RerankState(List<Rerank> reranks, int stableCount) {}
+}
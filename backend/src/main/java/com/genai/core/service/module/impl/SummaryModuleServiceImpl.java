@@ -44,7 +44,7 @@ public class SummaryModuleServiceImpl implements SummaryModuleService {
                 .topP(SummaryModuleConst.PART_SUMMARY_TOP_P)
                 .build();
 
-        return modelRepository.generateAnswerAsync(query, content, null, null, promptEntity)
+        return modelRepository.generateAnswerAsync(query, content, null, null, promptEntity, SummaryModuleConst.LLM_OPTION)
                 .map(answerEntities -> {
                     StringBuilder answerBuilder = new StringBuilder();
                     answerEntities.forEach(answerEntity -> {
@@ -163,7 +163,7 @@ public class SummaryModuleServiceImpl implements SummaryModuleService {
         }
 
         return Mono.just(contentMergeBuilder.toString().trim())
-                .flatMap(contentMerge -> modelRepository.generateAnswerAsync(query, contentMerge, null, null, promptEntity))
+                .flatMap(contentMerge -> modelRepository.generateAnswerAsync(query, contentMerge, null, null, promptEntity, SummaryModuleConst.LLM_OPTION))
                 .map(answerEntities -> {
 
                     StringBuilder answerBuilder = new StringBuilder();
@@ -54,7 +54,7 @@ public class TranslateModuleServiceImpl implements TranslateModuleService {
                 .subscribeOn(Schedulers.boundedElastic());
 
         return promptEntityMono
-                .flatMap(promptEntity -> modelRepository.generateAnswerAsync(query, content, null, null, promptEntity)
+                .flatMap(promptEntity -> modelRepository.generateAnswerAsync(query, content, null, null, promptEntity, TranslateModuleConst.LLM_OPTION)
                         .map(answerEntities -> {
 
                             StringBuilder answerBuilder = new StringBuilder();
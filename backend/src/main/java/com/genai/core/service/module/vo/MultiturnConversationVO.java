@@ -16,4 +16,7 @@ public class MultiturnConversationVO {
     private final List<ConversationVO> conversations;
 
     private final boolean isChangeTopic;
+
+    // 재정의 질의 (질의 계획 결과)
+    private final String rewriteQuery;
 }
@@ -0,0 +1,25 @@
+package com.genai.core.service.module.vo;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+@ToString
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class QueryPlanVO {
+
+    @JsonProperty("rewriteQuery")
+    private String rewriteQuery;
+
+    @JsonProperty("isChangeTopic")
+    private boolean isChangeTopic;
+
+    @JsonProperty("conversationIds")
+    private List<Long> conversationIds;
+}
@@ -1,5 +1,6 @@
 package com.genai.core.type;
 
+import com.genai.core.common.enums.TopicDetectType;
 import com.genai.core.repository.entity.DocumentEntity;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,13 +14,21 @@ public class CollectionType {
     private final String collectionId;
     private final List<String> keywordSearchFields;
     private final List<String> vectorSearchFields;
+    private final List<String> sourceIncludes;
+    private final List<String> sourceExcludes;
+    private final TopicDetectType topicDetectType;
 
-    @Builder
-    private CollectionType(Class<?> mappingClass, String collectionId, List<String> keywordSearchFields, List<String> vectorSearchFields) {
+    @Builder(toBuilder = true)
+    private CollectionType(Class<?> mappingClass, String collectionId, List<String> keywordSearchFields, List<String> vectorSearchFields, List<String> sourceIncludes, List<String> sourceExcludes, TopicDetectType topicDetectType) {
         this.mappingClass = mappingClass;
         this.collectionId = collectionId;
         this.keywordSearchFields = keywordSearchFields;
         this.vectorSearchFields = vectorSearchFields;
+        // 검색 결과 _source 필드 (미지정 시 전체 필드 조회, 벡터 필드 제외)
+        this.sourceIncludes = sourceIncludes == null ? List.of() : sourceIncludes;
+        this.sourceExcludes = sourceExcludes == null ? vectorSearchFields : sourceExcludes;
+        // 멀티턴 토픽 판별 방식 (미지정 시 LLM 판별)
+        this.topicDetectType = topicDetectType == null ? TopicDetectType.LLM : topicDetectType;
     }
 
     /**
@@ -1,17 +1,23 @@
 package com.genai.core.type;
 
+import com.genai.core.common.enums.TopicDetectType;
+import com.genai.core.config.properties.TopicDetectProperty;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class CollectionTypeFactory {
 
+    private final TopicDetectProperty topicDetectProperty;
+
     /**
      * AI 컬렉션
      *
      * @return AI 컬렉션 타입 객체
      */
     public CollectionType ai() {
-        return CollectionType.ai();
+        return this.applyTopicDetectType(CollectionType.ai());
     }
 
     /**
@@ -20,6 +26,21 @@ public class CollectionTypeFactory {
      * @return 나만의 AI 컬렉션 타입 객체
      */
     public CollectionType myai() {
-        return CollectionType.myai();
+        return this.applyTopicDetectType(CollectionType.myai());
+    }
+
+    /**
+     * 설정된 컬렉션별 토픽 판별 방식 적용
+     *
+     * @param collectionType 컬렉션 타입
+     * @return 컬렉션 타입 객체
+     */
+    private CollectionType applyTopicDetectType(CollectionType collectionType) {
+
+        TopicDetectType topicDetectType = topicDetectProperty.getCollections().get(collectionType.getCollectionId());
+
+        return topicDetectType == null
+                ? collectionType
+                : collectionType.toBuilder().topicDetectType(topicDetectType).build();
     }
 }
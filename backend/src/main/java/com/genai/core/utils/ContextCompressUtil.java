@@ -0,0 +1,123 @@
+package com.genai.core.utils;
+
+import com.genai.global.common.utils.StringUtil;
+
+import java.util.*;
+
+public class ContextCompressUtil {
+
+    /**
+     * 질의 기반 추출 압축
+     * 질의와 어휘 중첩이 없는 문장은 제외하고, 중첩도가 높은 문장을 압축 토큰 수 (원문 토큰 수 × 유지 비율, 최대 토큰 수 이내) 까지 선택하여 원문 순서대로 재구성
+     * 질의와 중첩되는 문장이 없으면 앞 문장부터 압축 토큰 수까지 유지
+     *
+     * @param text      문자열
+     * @param query     질의문
+     * @param keepRatio 유지 비율 (0 ~ 1)
+     * @param maxTokens 최대 토큰 수
+     * @return 압축 문자열
+     */
+    public static String compress(String text, String query, double keepRatio, int maxTokens) {
+
+        if (text == null || text.isBlank()) {
+            return text;
+        }
+
+        // 문장 분리 (공백 / 줄바꿈만 있는 구간은 앞 문장에 포함)
+        List<String> sentences = new ArrayList<>();
+        for (String sentence : ContextPackUtil.SENTENCE_BOUNDARY_PATTERN.split(text)) {
+            if (sentence.isBlank() && !sentences.isEmpty()) {
+                sentences.set(sentences.size() - 1, sentences.getLast() + sentence);
+            } else if (!sentence.isBlank()) {
+                sentences.add(sentence);
+            }
+        }
+
+        int textTokens = TokenCalculateUtil.countTokens(text);
+        int compressTokens = Math.min(maxTokens, (int) Math.ceil(textTokens * Math.min(Math.max(keepRatio, 0.0), 1.0)));
+
+        // 단일 문장은 최대 토큰 수 이내이면 그대로 유지
+        if (sentences.size() <= 1 && textTokens <= maxTokens) {
+            return text;
+        }
+
+        Set<String> queryGrams = grams(query);
+
+        // 문장별 점수 (동점 시 앞선 문장 우선)
+        List<Integer> rankedIndexes = new ArrayList<>();
+        double[] scores = new double[sentences.size()];
+        for (int index = 0; index < sentences.size(); index++) {
+            scores[index] = score(queryGrams, sentences.get(index));
+            rankedIndexes.add(index);
+        }
+        rankedIndexes.sort(Comparator.comparingDouble((Integer index) -> scores[index]).reversed());
+
+        // 압축 토큰 수 이내 질의 관련 상위 문장 선택
+        Set<Integer> selectedIndexes = new TreeSet<>();
+        int usedTokens = 0;
+        for (int index : rankedIndexes) {
+            if (scores[index] <= 0) break;
+
+            int sentenceTokens = TokenCalculateUtil.countTokens(sentences.get(index));
+            if (usedTokens + sentenceTokens > compressTokens) continue;
+
+            selectedIndexes.add(index);
+            usedTokens += sentenceTokens;
+        }
+
+        if (selectedIndexes.isEmpty()) {
+            return ContextPackUtil.trimSentences(text, compressTokens);
+        }
+
+        // 원문 문장 부호 / 줄바꿈 유지
+        StringBuilder compressBuilder = new StringBuilder();
+        for (int index : selectedIndexes) {
+            compressBuilder.append(sentences.get(index));
+        }
+
+        return compressBuilder.toString().strip();
+    }
+
+    /**
+     * 질의 / 문장 어휘 중첩도 (질의 n-gram 재현율)
+     *
+     * @param queryGrams 질의 n-gram 집합
+     * @param sentence   문장
+     * @return 중첩도
+     */
+    private static double score(Set<String> queryGrams, String sentence) {
+
+        if (queryGrams.isEmpty()) return 0.0;
+
+        Set<String> sentenceGrams = grams(sentence);
+
+        int overlap = 0;
+        for (String gram : queryGrams) {
+            if (sentenceGrams.contains(gram)) overlap++;
+        }
+
+        return (double) overlap / queryGrams.size();
+    }
+
+    /**
+     * 어절 및 음절 bigram 집합 (교착어 조사 변화 보정)
+     *
+     * @param text 문자열
+     * @return n-gram 집합
+     */
+    private static Set<String> grams(String text) {
+
+        Set<String> grams = new HashSet<>();
+
+        for (String word : StringUtil.normalizeQuery(text).toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) continue;
+
+            grams.add(word);
+            for (int index = 0; index + 1 < word.length(); index++) {
+                grams.add(word.substring(index, index + 2));
+            }
+        }
+
+        return grams;
+    }
+}
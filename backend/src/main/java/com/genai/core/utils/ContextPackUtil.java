@@ -0,0 +1,83 @@
+package com.genai.core.utils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class ContextPackUtil {
+
+    // 문장 경계 (문장 부호 또는 줄바꿈 뒤)
+    static final Pattern SENTENCE_BOUNDARY_PATTERN = Pattern.compile("(?<=[.!?。\\n])");
+
+    /**
+     * 토큰 예산 기준 컨텍스트 구성
+     * 우선순위 순서대로 구획을 채우고, 예산을 넘는 마지막 구획은 문장 단위로 잘라서 포함
+     *
+     * @param sections  컨텍스트 구획 목록 (우선순위 순)
+     * @param delimiter 구획 구분자
+     * @param maxTokens 최대 토큰 수
+     * @return 컨텍스트 문자열
+     */
+    public static String pack(List<String> sections, String delimiter, int maxTokens) {
+
+        StringBuilder contextBuilder = new StringBuilder();
+
+        int delimiterTokens = TokenCalculateUtil.countTokens(delimiter);
+        int remainTokens = maxTokens;
+
+        for (String section : sections) {
+            if (section == null || section.isBlank()) continue;
+
+            int separatorTokens = contextBuilder.isEmpty() ? 0 : delimiterTokens;
+            int sectionTokens = TokenCalculateUtil.countTokens(section);
+
+            if (sectionTokens + separatorTokens <= remainTokens) {
+                if (!contextBuilder.isEmpty()) contextBuilder.append(delimiter);
+                contextBuilder.append(section);
+                remainTokens -= sectionTokens + separatorTokens;
+                continue;
+            }
+
+            // 마지막 구획 문장 단위 자르기
+            String trimmedSection = trimSentences(section, remainTokens - separatorTokens);
+            if (!trimmedSection.isBlank()) {
+                if (!contextBuilder.isEmpty()) contextBuilder.append(delimiter);
+                contextBuilder.append(trimmedSection);
+            }
+            break;
+        }
+
+        return contextBuilder.toString().trim();
+    }
+
+    /**
+     * 토큰 예산 기준 문장 단위 자르기 (첫 문장이 예산을 넘는 경우 토큰 단위로 자르기)
+     *
+     * @param text      문자열
+     * @param maxTokens 최대 토큰 수
+     * @return 최대 토큰 수 이내 문자열
+     */
+    public static String trimSentences(String text, int maxTokens) {
+
+        if (text == null || maxTokens <= 0) {
+            return "";
+        }
+
+        StringBuilder textBuilder = new StringBuilder();
+        int usedTokens = 0;
+
+        for (String sentence : SENTENCE_BOUNDARY_PATTERN.split(text)) {
+            int sentenceTokens = TokenCalculateUtil.countTokens(sentence);
+
+            if (usedTokens + sentenceTokens > maxTokens) {
+                break;
+            }
+
+            textBuilder.append(sentence);
+            usedTokens += sentenceTokens;
+        }
+
+        return textBuilder.isEmpty()
+                ? TokenCalculateUtil.truncate(text, maxTokens)
+                : textBuilder.toString().trim();
+    }
+}
@@ -0,0 +1,116 @@
+package com.genai.core.utils;
+
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.wrapper.Search;
+
+import java.util.*;
+
+public class HybridFusionUtil {
+
+    /**
+     * RRF (Reciprocal Rank Fusion) 병합
+     * score(d) = Σ weight / (k + rank(d)), rank 는 1 부터 시작
+     *
+     * @param keywordSearches 키워드 검색 결과 (점수 내림차순)
+     * @param vectorSearches  벡터 검색 결과 (점수 내림차순)
+     * @param k               순위 완화 상수
+     * @param keywordWeight   키워드 검색 가중치
+     * @param vectorWeight    벡터 검색 가중치
+     * @return 병합 점수 내림차순 검색 결과 목록
+     */
+    public static <T extends DocumentEntity> List<Search<T>> reciprocalRankFusion(
+            List<Search<T>> keywordSearches, List<Search<T>> vectorSearches, int k, double keywordWeight, double vectorWeight
+    ) {
+        Map<Long, T> documents = new LinkedHashMap<>();
+        Map<Long, Double> scores = new HashMap<>();
+
+        accumulateRank(keywordSearches, k, keywordWeight, documents, scores);
+        accumulateRank(vectorSearches, k, vectorWeight, documents, scores);
+
+        return sort(documents, scores);
+    }
+
+    /**
+     * 가중 Min-Max 정규화 병합
+     * score(d) = Σ weight * (score - min) / (max - min)
+     *
+     * @param keywordSearches 키워드 검색 결과
+     * @param vectorSearches  벡터 검색 결과
+     * @param keywordWeight   키워드 검색 가중치
+     * @param vectorWeight    벡터 검색 가중치
+     * @return 병합 점수 내림차순 검색 결과 목록
+     */
+    public static <T extends DocumentEntity> List<Search<T>> minMaxFusion(
+            List<Search<T>> keywordSearches, List<Search<T>> vectorSearches, double keywordWeight, double vectorWeight
+    ) {
+        Map<Long, T> documents = new LinkedHashMap<>();
+        Map<Long, Double> scores = new HashMap<>();
+
+        accumulateNormalizedScore(keywordSearches, keywordWeight, documents, scores);
+        accumulateNormalizedScore(vectorSearches, vectorWeight, documents, scores);
+
+        return sort(documents, scores);
+    }
+
+    private static <T extends DocumentEntity> void accumulateRank(
+            List<Search<T>> searches, int k, double weight, Map<Long, T> documents, Map<Long, Double> scores
+    ) {
+        if (searches == null) return;
+
+        // 동일 문서가 중복 반환된 경우 최상위 순위만 반영
+        Set<Long> ranked = new HashSet<>();
+        int rank = 0;
+
+        for (Search<T> search : searches) {
+            Long chunkId = search.getFields().getChunkId();
+            rank++;
+
+            if (!ranked.add(chunkId)) continue;
+
+            documents.putIfAbsent(chunkId, search.getFields());
+            scores.merge(chunkId, weight / (k + rank), Double::sum);
+        }
+    }
+
+    private static <T extends DocumentEntity> void accumulateNormalizedScore(
+            List<Search<T>> searches, double weight, Map<Long, T> documents, Map<Long, Double> scores
+    ) {
+        if (searches == null || searches.isEmpty()) return;
+
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+
+        for (Search<T> search : searches) {
+            min = Math.min(min, search.getScore());
+            max = Math.max(max, search.getScore());
+        }
+
+        double range = max - min;
+        Set<Long> normalized = new HashSet<>();
+
+        for (Search<T> search : searches) {
+            Long chunkId = search.getFields().getChunkId();
+
+            if (!normalized.add(chunkId)) continue;
+
+            double normalizedScore = range == 0 ? 1.0 : (search.getScore() - min) / range;
+
+            documents.putIfAbsent(chunkId, search.getFields());
+            scores.merge(chunkId, weight * normalizedScore, Double::sum);
+        }
+    }
+
+    private static <T extends DocumentEntity> List<Search<T>> sort(Map<Long, T> documents, Map<Long, Double> scores) {
+        List<Search<T>> fusedSearches = new ArrayList<>(documents.size());
+
+        documents.forEach((chunkId, document) -> fusedSearches.add(Search.<T>builder()
+                .score(scores.get(chunkId))
+                .fields(document)
+                .build()));
+
+        // 동점인 경우 최초 등장 순서 유지 (stable sort)
+        fusedSearches.sort(Comparator.comparingDouble((Search<T> search) -> search.getScore()).reversed());
+
+        return fusedSearches;
+    }
+}
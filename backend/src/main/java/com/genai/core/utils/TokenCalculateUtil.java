@@ -5,6 +5,7 @@ import com.genai.core.service.module.vo.ConversationVO;
 import com.knuddels.jtokkit.Encodings;
 import com.knuddels.jtokkit.api.Encoding;
 import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingResult;
 import com.knuddels.jtokkit.api.EncodingType;
 
 import java.util.List;
@@ -49,6 +50,39 @@ public class TokenCalculateUtil {
         );
     }
 
+    /**
+     * 컨텍스트 최대 토큰 수 계산
+     * 모델 컨텍스트 한도에서 컨텍스트 외 입력, 내부 보정, 안전 마진, 최대 출력 토큰 (한도 초과 설정 시 최소 출력 토큰) 을 제외
+     *
+     * @param llmInstanceProperty LLM Instance 설정
+     * @param prompt              프롬프트
+     * @param query               질의문
+     * @param chatState           대화 상태
+     * @param conversations       대화 이력 목록
+     * @return 컨텍스트 최대 토큰 수 (모델 컨텍스트 한도 미설정 시 무제한)
+     */
+    public static int calculateContextTokens(LlmInstanceProperty llmInstanceProperty, String prompt, String query, String chatState, List<ConversationVO> conversations) {
+
+        if (llmInstanceProperty.getModelContextLimit() <= 0) {
+            return Integer.MAX_VALUE;
+        }
+
+        int inputTokens = count(prompt) + count(query) + count(chatState) + llmInstanceProperty.getInternalTokenOverhead();
+
+        if (conversations != null) {
+            for (ConversationVO conversation : conversations) {
+                inputTokens += count(conversation.getQuery());
+                inputTokens += count(conversation.getAnswer());
+            }
+        }
+
+        int available = llmInstanceProperty.getModelContextLimit() - inputTokens - llmInstanceProperty.getSafetyMargin();
+
+        return Math.max(0, available >= llmInstanceProperty.getMaxOutputTokens()
+                ? available - llmInstanceProperty.getMaxOutputTokens()
+                : available - llmInstanceProperty.getMinOutputTokens());
+    }
+
     private static int count(String text) {
         return countTokens(text);
     }
@@ -65,4 +99,24 @@ public class TokenCalculateUtil {
         }
         return encoding.countTokens(text);
     }
+
+    /**
+     * 최대 토큰 수 기준 문자열 자르기
+     *
+     * @param text      문자열
+     * @param maxTokens 최대 토큰 수
+     * @return 최대 토큰 수 이내 문자열
+     */
+    public static String truncate(String text, int maxTokens) {
+        if (text == null || text.isBlank() || maxTokens <= 0) {
+            return text;
+        }
+
+        EncodingResult encodingResult = encoding.encode(text, maxTokens);
+
+        // 잘린 경계의 불완전한 멀티바이트 문자 제거
+        return encodingResult.isTruncated()
+                ? encoding.decode(encodingResult.getTokens()).replaceAll("\uFFFD+$", "")
+                : text;
+    }
 }
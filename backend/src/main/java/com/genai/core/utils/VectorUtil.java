@@ -0,0 +1,29 @@
+package com.genai.core.utils;
+
+public class VectorUtil {
+
+    /**
+     * 두 벡터의 코사인 유사도 반환
+     *
+     * @param a 벡터
+     * @param b 벡터
+     * @return 코사인 유사도 (차원 불일치 또는 영벡터인 경우 0)
+     */
+    public static double cosineSimilarity(float[] a, float[] b) {
+        if (a == null || b == null || a.length == 0 || a.length != b.length) return 0.0;
+
+        double dot = 0.0;
+        double normA = 0.0;
+        double normB = 0.0;
+
+        for (int index = 0; index < a.length; index++) {
+            dot += (double) a[index] * b[index];
+            normA += (double) a[index] * a[index];
+            normB += (double) b[index] * b[index];
+        }
+
+        if (normA == 0 || normB == 0) return 0.0;
+
+        return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+}
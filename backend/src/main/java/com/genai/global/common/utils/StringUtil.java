@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.genai.global.common.vo.IndexedContentVO;
 
+import java.text.Normalizer;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -104,6 +105,22 @@ public class StringUtil {
         return String.valueOf(c);
     }
 
+    /**
+     * 질의문 정규화 (유니코드 정규화, 공백 정리)
+     *
+     * @param query 질의문
+     * @return 정규화 질의문
+     */
+    public static String normalizeQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+
+        return Normalizer.normalize(query, Normalizer.Form.NFKC)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
     /**
      * 두 문장의 코사인 유사도 반환 (Bag-of-Words, TF 기반)
      */
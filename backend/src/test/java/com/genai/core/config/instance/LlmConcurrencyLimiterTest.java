@@ -0,0 +1,72 @@
+package com.genai.core.config.instance;
+
+import com.genai.core.config.properties.LlmLimitProperty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmConcurrencyLimiterTest {
+
+    private static LlmConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+        return new LlmConcurrencyLimiter("llm-0", initialLimit, minLimit, maxLimit, new LlmLimitProperty(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void growsUpToMaxLimit() {
+        LlmConcurrencyLimiter limiter = limiter(4, 1, 5);
+        limiter.acquire();
+        limiter.acquire();
+
+        limiter.onSample(100, 10);
+        limiter.onSample(100, 10);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shrinksOnLatency() {
+        LlmConcurrencyLimiter limiter = limiter(10, 1, 10);
+
+        limiter.onSample(100, 10);
+        limiter.onSample(300, 10);
+
+        assertThat(limiter.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void requestSamplesUseSeparateBaseline() {
+        LlmConcurrencyLimiter limiter = limiter(10, 1, 10);
+
+        // 프리필 포함 비스트림 응답 시간은 스트림 토큰당 생성 시간과 비교하지 않음
+        limiter.onSample(100, 10);
+        limiter.onRequestSample(50);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        limiter.onRequestSample(150);
+        assertThat(limiter.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void shrinksNoLowerThanPriorityFloor() {
+        LlmConcurrencyLimiter limiter = limiter(10, 1, 10);
+
+        for (int index = 0; index < 50; index++) {
+            limiter.onError();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(3);
+
+        limiter.reset();
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void floorIsCappedByMaxLimit() {
+        LlmConcurrencyLimiter limiter = limiter(1, 1, 1);
+
+        limiter.onError();
+        limiter.reset();
+
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+}
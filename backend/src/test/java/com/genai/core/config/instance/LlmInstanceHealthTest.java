@@ -0,0 +1,86 @@
+package com.genai.core.config.instance;
+
+import com.genai.core.config.properties.LlmHealthProperty;
+import com.genai.core.config.properties.LlmLimitProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LlmInstanceHealthTest {
+
+    private static LlmInstanceHealth health(LlmConcurrencyLimiter limiter) {
+        return health(limiter, new SimpleMeterRegistry());
+    }
+
+    private static LlmInstanceHealth health(LlmConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+        LlmHealthProperty llmHealthProperty = new LlmHealthProperty();
+        llmHealthProperty.setConsecutiveErrors(2);
+        llmHealthProperty.setBaseEjectionMs(10000);
+        llmHealthProperty.setMaxEjectionMs(30000);
+
+        return new LlmInstanceHealth("llm-0", llmHealthProperty, limiter, meterRegistry);
+    }
+
+    private static LlmConcurrencyLimiter limiter() {
+        return new LlmConcurrencyLimiter("llm-0", 10, 1, 10, new LlmLimitProperty(), new SimpleMeterRegistry());
+    }
+
+    private static double remainingEjectionMs(MeterRegistry meterRegistry) {
+        return meterRegistry.get("llm.instance.ejection.remaining").tag("instance", "llm-0").gauge().value();
+    }
+
+    private static void fail(LlmInstanceHealth health, int count) {
+        for (int index = 0; index < count; index++) {
+            health.onError();
+        }
+    }
+
+    @Test
+    void ejectsAfterConsecutiveErrors() {
+        LlmConcurrencyLimiter limiter = limiter();
+        LlmInstanceHealth health = health(limiter);
+
+        fail(health, 1);
+        health.onSuccess();
+        fail(health, 1);
+        assertThat(health.isEjected()).isFalse();
+
+        fail(health, 1);
+        assertThat(health.isEjected()).isTrue();
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void backsOffExponentiallyUpToMax() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LlmInstanceHealth health = health(limiter(), meterRegistry);
+        assertThat(remainingEjectionMs(meterRegistry)).isZero();
+
+        fail(health, 2);
+        assertThat(remainingEjectionMs(meterRegistry)).isCloseTo(10000.0, within(1000.0));
+
+        fail(health, 2);
+        assertThat(remainingEjectionMs(meterRegistry)).isCloseTo(20000.0, within(1000.0));
+
+        fail(health, 2);
+        assertThat(remainingEjectionMs(meterRegistry)).isCloseTo(30000.0, within(1000.0));
+
+        fail(health, 2);
+        assertThat(remainingEjectionMs(meterRegistry)).isCloseTo(30000.0, within(1000.0));
+    }
+
+    @Test
+    void slowFirstTokenCountsAsError() {
+        LlmInstanceHealth health = health(limiter());
+
+        health.onFirstToken(100, 100);
+        health.onFirstToken(600, 100);
+        assertThat(health.isEjected()).isFalse();
+
+        health.onFirstToken(600, 100);
+        assertThat(health.isEjected()).isTrue();
+    }
+}
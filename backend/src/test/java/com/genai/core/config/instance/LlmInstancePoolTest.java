@@ -0,0 +1,151 @@
+package com.genai.core.config.instance;
+
+import com.genai.core.common.enums.LlmPlatformType;
+import com.genai.core.common.enums.LlmPriority;
+import com.genai.core.common.enums.LlmType;
+import com.genai.core.config.properties.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmInstancePoolTest {
+
+    private static LlmInstancePool pool(int sessionCount) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        LlmInstanceProperty llmInstanceProperty = new LlmInstanceProperty();
+        llmInstanceProperty.setSessionCount(sessionCount);
+
+        LlmRoutingProperty llmRoutingProperty = new LlmRoutingProperty();
+        llmRoutingProperty.setType("least_outstanding");
+
+        LlmInstance instance = LlmInstance.builder()
+                .instanceId("llm-0")
+                .platformType(LlmPlatformType.VLLM)
+                .llmInstanceProperty(llmInstanceProperty)
+                .ewmaAlpha(0.3)
+                .llmLimitProperty(new LlmLimitProperty())
+                .llmHealthProperty(new LlmHealthProperty())
+                .meterRegistry(meterRegistry)
+                .build();
+
+        return new LlmInstancePool(LlmType.DEFAULT, List.of(instance), llmRoutingProperty, new LlmPriorityProperty(), meterRegistry);
+    }
+
+    private static LlmInstance.AcquireResult acquire(LlmInstancePool pool, String requestId, LlmPriority priority) {
+        return pool.acquire(requestId, null, priority, Set.of()).block();
+    }
+
+    @Test
+    void batchAcquireSucceedsAtLimitOne() {
+        LlmInstancePool pool = pool(1);
+
+        // 상위 우선 순위 유입 후에도 유휴 Instance 는 하위 우선 순위 허용
+        LlmInstance.AcquireResult interactive = acquire(pool, "interactive", LlmPriority.INTERACTIVE);
+        pool.release("interactive", interactive.instance());
+
+        LlmInstance.AcquireResult batch = acquire(pool, "batch", LlmPriority.BATCH);
+
+        assertThat(batch).isNotNull();
+        assertThat(batch.instance().getOutstanding()).isEqualTo(1);
+    }
+
+    @Test
+    void batchOnlyPoolDoesNotReserve() {
+        LlmInstancePool pool = pool(5);
+
+        for (int index = 0; index < 5; index++) {
+            assertThat(acquire(pool, "batch-" + index, LlmPriority.BATCH)).isNotNull();
+        }
+        assertThat(pool.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void reservesSessionsForServedHigherPriority() {
+        LlmInstancePool pool = pool(10);
+
+        LlmInstance.AcquireResult interactive = acquire(pool, "interactive", LlmPriority.INTERACTIVE);
+        pool.release("interactive", interactive.instance());
+
+        // 대화형 예약 ceil(10 * 0.2) = 2 세션을 제외한 8 세션까지 일괄 요청 허용
+        for (int index = 0; index < 8; index++) {
+            assertThat(acquire(pool, "batch-" + index, LlmPriority.BATCH)).isNotNull();
+        }
+
+        List<LlmInstance.AcquireResult> results = new ArrayList<>();
+        pool.acquire("batch-8", null, LlmPriority.BATCH, Set.of()).subscribe(results::add);
+
+        assertThat(results).isEmpty();
+        assertThat(pool.getQueueDepth()).isEqualTo(1);
+        assertThat(acquire(pool, "interactive-0", LlmPriority.INTERACTIVE)).isNotNull();
+        assertThat(acquire(pool, "interactive-1", LlmPriority.INTERACTIVE)).isNotNull();
+    }
+
+    @Test
+    void batchAcquireSucceedsAfterEjection() {
+        LlmInstancePool pool = pool(10);
+        LlmInstance instance = pool.getInstances().get(0);
+
+        LlmInstance.AcquireResult interactive = acquire(pool, "interactive", LlmPriority.INTERACTIVE);
+        pool.release("interactive", interactive.instance());
+
+        for (int index = 0; index < new LlmHealthProperty().getConsecutiveErrors(); index++) {
+            instance.getHealth().onError();
+        }
+
+        assertThat(instance.getHealth().isEjected()).isTrue();
+        assertThat(instance.getLimiter().getLimit()).isEqualTo(3);
+        assertThat(acquire(pool, "batch", LlmPriority.BATCH)).isNotNull();
+    }
+
+    @Test
+    void handsOffToWaitersByPriorityThenArrival() {
+        LlmInstancePool pool = pool(1);
+        LlmInstance.AcquireResult holder = acquire(pool, "holder", LlmPriority.INTERACTIVE);
+
+        List<String> handoffs = new ArrayList<>();
+        pool.acquire("batch", null, LlmPriority.BATCH, Set.of()).subscribe(result -> handoffs.add("batch"));
+        pool.acquire("module-0", null, LlmPriority.MODULE, Set.of()).subscribe(result -> handoffs.add("module-0"));
+        pool.acquire("module-1", null, LlmPriority.MODULE, Set.of()).subscribe(result -> handoffs.add("module-1"));
+        pool.acquire("interactive", null, LlmPriority.INTERACTIVE, Set.of()).subscribe(result -> handoffs.add("interactive"));
+
+        assertThat(handoffs).isEmpty();
+        assertThat(pool.getQueueDepth()).isEqualTo(4);
+
+        pool.release("holder", holder.instance());
+        pool.release("interactive", holder.instance());
+        pool.release("module-0", holder.instance());
+        pool.release("module-1", holder.instance());
+
+        assertThat(handoffs).containsExactly("interactive", "module-0", "module-1", "batch");
+        assertThat(pool.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void cancelledWaiterIsSkippedWithoutLeakingSession() {
+        LlmInstancePool pool = pool(1);
+        LlmInstance.AcquireResult holder = acquire(pool, "holder", LlmPriority.INTERACTIVE);
+
+        List<String> handoffs = new ArrayList<>();
+        Disposable cancelled = pool.acquire("cancelled", null, LlmPriority.INTERACTIVE, Set.of()).subscribe(result -> handoffs.add("cancelled"));
+        pool.acquire("waiting", null, LlmPriority.MODULE, Set.of()).subscribe(result -> handoffs.add("waiting"));
+
+        cancelled.dispose();
+        pool.release("holder", holder.instance());
+
+        assertThat(handoffs).containsExactly("waiting");
+        assertThat(holder.instance().getOutstanding()).isEqualTo(1);
+        assertThat(holder.instance().getSessionQueue()).containsExactly("waiting");
+
+        pool.release("waiting", holder.instance());
+
+        assertThat(holder.instance().getOutstanding()).isZero();
+        assertThat(pool.getQueueDepth()).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+package com.genai.core.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.request.VectorSearchRequest;
+import com.genai.core.repository.vo.ConvertVectorVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VectorSerializationTest {
+
+    private static final float[] VECTOR = {0.125f, -0.5f, 1.0f, 3.4028235E38f, 1.4E-45f};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void convertVectorRoundTrip() throws Exception {
+        ConvertVectorVO convertVectorVo = ConvertVectorVO.builder()
+                .id(0L)
+                .content("질의문")
+                .vector(VECTOR)
+                .build();
+
+        String json = objectMapper.writeValueAsString(convertVectorVo);
+
+        // 숫자 배열로 직렬화
+        JsonNode vectorNode = objectMapper.readTree(json).path("vector");
+        assertThat(vectorNode.isArray()).isTrue();
+        assertThat(vectorNode.size()).isEqualTo(VECTOR.length);
+
+        assertThat(objectMapper.readValue(json, ConvertVectorVO.class).getVector()).containsExactly(VECTOR);
+    }
+
+    @Test
+    void convertVectorReadsEmbeddingResponse() throws Exception {
+        String json = """
+                [{"id": 0, "content": "질의문", "vector": [0.125, -0.5, 1]}, {"id": 1, "content": "문서"}]
+                """;
+
+        ConvertVectorVO[] convertVectorVos = objectMapper.readValue(json, ConvertVectorVO[].class);
+
+        assertThat(convertVectorVos[0].getVector()).containsExactly(0.125f, -0.5f, 1.0f);
+        assertThat(convertVectorVos[1].getVector()).isNull();
+    }
+
+    @Test
+    void documentContextVectorRoundTrip() throws Exception {
+        DocumentEntity documentEntity = DocumentEntity.builder()
+                .chunkId(1L)
+                .contextVector(VECTOR)
+                .build();
+
+        String json = objectMapper.writeValueAsString(documentEntity);
+
+        assertThat(objectMapper.readTree(json).path("vector-context").size()).isEqualTo(VECTOR.length);
+        assertThat(objectMapper.readValue(json, DocumentEntity.class).getContextVector()).containsExactly(VECTOR);
+    }
+
+    @Test
+    void vectorSearchRequestWritesKnnVector() throws Exception {
+        VectorSearchRequest vectorSearchRequest = VectorSearchRequest.builder()
+                .size(10)
+                .query(VectorSearchRequest.query(List.of("vector-context"), VECTOR, List.of()))
+                .build();
+
+        JsonNode vectorNode = objectMapper.readTree(objectMapper.writeValueAsString(vectorSearchRequest))
+                .findValue("knn")
+                .path("vector-context")
+                .path("vector");
+
+        assertThat(objectMapper.treeToValue(vectorNode, float[].class)).containsExactly(VECTOR);
+    }
+}
@@ -0,0 +1,65 @@
+package com.genai.core.repository.cache;
+
+import com.genai.core.config.properties.AnswerCacheProperty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerCacheTest {
+
+    private IndexVersionRegistry indexVersionRegistry;
+
+    private AnswerCache answerCache;
+
+    @BeforeEach
+    void setUp() {
+        AnswerCacheProperty answerCacheProperty = new AnswerCacheProperty();
+        answerCacheProperty.setEnabled(true);
+
+        indexVersionRegistry = new IndexVersionRegistry();
+        answerCache = new AnswerCache(answerCacheProperty, indexVersionRegistry, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void keyIgnoresCategoryOrderAndQueryWhitespace() {
+        answerCache.put("gen_ai", List.of("B", "A"), 1L, "연차  휴가 신청 방법", new AnswerCache.Entry("answer", List.of()));
+
+        assertThat(answerCache.get("gen_ai", List.of("A", "B"), 1L, " 연차 휴가 신청 방법 "))
+                .map(AnswerCache.Entry::answer)
+                .contains("answer");
+    }
+
+    @Test
+    void keySeparatesCollectionPromptAndCategories() {
+        answerCache.put("gen_ai", List.of("A"), 1L, "query", new AnswerCache.Entry("answer", List.of()));
+
+        assertThat(answerCache.get("gen_myai", List.of("A"), 1L, "query")).isEmpty();
+        assertThat(answerCache.get("gen_ai", List.of("A"), 2L, "query")).isEmpty();
+        assertThat(answerCache.get("gen_ai", List.of("A", "B"), 1L, "query")).isEmpty();
+    }
+
+    @Test
+    void indexVersionIncreaseInvalidatesCategoryEntries() {
+        answerCache.put("gen_ai", List.of("A", "B"), 1L, "query", new AnswerCache.Entry("answer", List.of()));
+        answerCache.put("gen_ai", List.of("C"), 1L, "query", new AnswerCache.Entry("other", List.of()));
+
+        indexVersionRegistry.increaseVersion("B");
+
+        assertThat(answerCache.get("gen_ai", List.of("A", "B"), 1L, "query")).isEmpty();
+        assertThat(answerCache.get("gen_ai", List.of("C"), 1L, "query")).isPresent();
+    }
+
+    @Test
+    void disabledCacheNeverStores() {
+        AnswerCacheProperty answerCacheProperty = new AnswerCacheProperty();
+        AnswerCache disabledAnswerCache = new AnswerCache(answerCacheProperty, indexVersionRegistry, new SimpleMeterRegistry());
+
+        disabledAnswerCache.put("gen_ai", List.of("A"), 1L, "query", new AnswerCache.Entry("answer", List.of()));
+
+        assertThat(disabledAnswerCache.get("gen_ai", List.of("A"), 1L, "query")).isEmpty();
+    }
+}
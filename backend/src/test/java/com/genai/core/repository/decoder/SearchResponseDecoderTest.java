@@ -0,0 +1,123 @@
+package com.genai.core.repository.decoder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genai.core.config.properties.SearchProperty;
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.response.MultiSearchResponse;
+import com.genai.core.repository.response.SearchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SearchResponseDecoderTest {
+
+    private static final String SEARCH_RESPONSE = """
+            {"took": 2, "timed_out": false, "hits": {"total": {"value": 2, "relation": "eq"}, "max_score": 3.5, "hits": [
+              {"_score": 3.5, "_source": {"chunk_id": 1, "title": "연차 휴가"}},
+              {"_score": 1.5, "_source": {"chunk_id": 2, "title": "병가"}}
+            ]}}
+            """;
+
+    private ObjectMapper objectMapper;
+
+    private SearchProperty searchProperty;
+
+    private SearchResponseDecoder searchResponseDecoder;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = spy(new ObjectMapper().findAndRegisterModules());
+        searchProperty = new SearchProperty();
+        searchResponseDecoder = new SearchResponseDecoder(objectMapper, searchProperty);
+    }
+
+    /**
+     * 응답 바디를 지정 크기 버퍼로 분할
+     *
+     * @param body      응답 바디
+     * @param chunkSize 버퍼 크기
+     * @return 응답 바디 버퍼 스트림
+     */
+    private static Flux<DataBuffer> body(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize)
+                .map(index -> {
+                    int offset = index * chunkSize;
+                    byte[] chunk = new byte[Math.min(chunkSize, bytes.length - offset)];
+                    System.arraycopy(bytes, offset, chunk, 0, chunk.length);
+                    return DefaultDataBufferFactory.sharedInstance.wrap(chunk);
+                });
+    }
+
+    @Test
+    void decodeSearchResponseAcrossBuffers() {
+        // 한글 멀티바이트 문자가 버퍼 경계에서 분할되도록 작은 크기 사용
+        SearchResponse<DocumentEntity> searchResponse = searchResponseDecoder.<DocumentEntity>decodeSearchResponse(body(SEARCH_RESPONSE, 7), DocumentEntity.class)
+                .block();
+
+        assertThat(searchResponse).isNotNull();
+        assertThat(searchResponse.getTook()).isEqualTo(2);
+        assertThat(searchResponse.getResult().hits())
+                .extracting(search -> search.getFields().getTitle())
+                .containsExactly("연차 휴가", "병가");
+        assertThat(searchResponse.getResult().hits().get(0).getFields()).isInstanceOf(DocumentEntity.class);
+    }
+
+    @Test
+    void decodeMultiSearchResponse() {
+        String multiSearchResponse = """
+                {"took": 4, "responses": [%s, {"status": 400, "error": {"type": "query_shard_exception"}}]}
+                """.formatted(SEARCH_RESPONSE.strip());
+
+        MultiSearchResponse<DocumentEntity> response = searchResponseDecoder.<DocumentEntity>decodeMultiSearchResponse(body(multiSearchResponse, 64), DocumentEntity.class)
+                .block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getResponses()).hasSize(2);
+        assertThat(response.getResponses().get(0).getResult().hits())
+                .extracting(search -> search.getFields().getChunkId())
+                .containsExactly(1L, 2L);
+        assertThat(response.getResponses().get(1).getStatus()).isEqualTo(400);
+        assertThat(response.getResponses().get(1).getError()).containsKey("type");
+        assertThat(response.getResponses().get(1).getResult()).isNull();
+    }
+
+    @Test
+    void readerIsCreatedOncePerMappingClass() {
+        for (int i = 0; i < 3; i++) {
+            searchResponseDecoder.<DocumentEntity>decodeSearchResponse(body(SEARCH_RESPONSE, 64), DocumentEntity.class).block();
+            searchResponseDecoder.<DocumentEntity>decodeMultiSearchResponse(body("{\"responses\": []}", 64), DocumentEntity.class).block();
+        }
+
+        // 검색 / 멀티 검색 응답 각 1회
+        verify(objectMapper, times(2)).readerFor(any(JavaType.class));
+    }
+
+    @Test
+    void malformedBodyFailsWithUncheckedIOException() {
+        assertThatThrownBy(() -> searchResponseDecoder.decodeSearchResponse(body("{\"hits\": [", 64), DocumentEntity.class).block())
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void oversizedBodyFailsWithDataBufferLimitException() {
+        searchProperty.setMaxInMemorySize(16);
+
+        assertThatThrownBy(() -> searchResponseDecoder.decodeSearchResponse(body(SEARCH_RESPONSE, 8), DocumentEntity.class).block())
+                .isInstanceOf(DataBufferLimitException.class);
+    }
+}
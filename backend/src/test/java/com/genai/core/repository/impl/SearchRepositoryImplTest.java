@@ -0,0 +1,181 @@
+package com.genai.core.repository.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genai.core.config.properties.RerankBatchProperty;
+import com.genai.core.config.properties.RerankerProperty;
+import com.genai.core.config.properties.SearchProperty;
+import com.genai.core.exception.SearchErrorException;
+import com.genai.core.repository.batch.QueryVectorBatcher;
+import com.genai.core.repository.cache.QueryVectorCache;
+import com.genai.core.repository.cache.RerankScoreCache;
+import com.genai.core.repository.decoder.SearchResponseDecoder;
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.wrapper.HybridSearch;
+import com.genai.core.type.CollectionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchRepositoryImplTest {
+
+    private static final String QUERY = "연차 휴가 신청 방법";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final List<String> requestBodies = new ArrayList<>();
+
+    private String responseBody;
+
+    private SearchRepositoryImpl searchRepository;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperty searchProperty = new SearchProperty();
+        searchProperty.setHost("localhost");
+        searchProperty.setPort(9200);
+
+        // 요청 바디 수집 후 지정 응답 반환
+        WebClient searchWebClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    MockClientHttpRequest mockRequest = new MockClientHttpRequest(request.method(), request.url());
+                    mockRequest.getHeaders().putAll(request.headers());
+                    return request.body().insert(mockRequest, new BodyInserter.Context() {
+                                @Override
+                                public List<HttpMessageWriter<?>> messageWriters() {
+                                    return ExchangeStrategies.withDefaults().messageWriters();
+                                }
+
+                                @Override
+                                public Optional<ServerHttpRequest> serverRequest() {
+                                    return Optional.empty();
+                                }
+
+                                @Override
+                                public Map<String, Object> hints() {
+                                    return Map.of();
+                                }
+                            })
+                            .then(mockRequest.getBodyAsString())
+                            .map(body -> {
+                                requestBodies.add(body);
+                                return ClientResponse.create(HttpStatus.OK)
+                                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .body(responseBody)
+                                        .build();
+                            });
+                })
+                .build();
+
+        QueryVectorCache queryVectorCache = mock(QueryVectorCache.class);
+        when(queryVectorCache.get(eq(QUERY), any())).thenReturn(Mono.just(new float[]{0.1f, 0.2f, 0.3f}));
+
+        searchRepository = new SearchRepositoryImpl(
+                searchWebClient,
+                WebClient.create(),
+                searchProperty,
+                new RerankerProperty(),
+                new RerankBatchProperty(),
+                objectMapper,
+                new SearchResponseDecoder(objectMapper, searchProperty),
+                queryVectorCache,
+                mock(RerankScoreCache.class),
+                mock(QueryVectorBatcher.class));
+    }
+
+    @Test
+    void hybridSearchSendsKeywordAndVectorBodiesAsNdjson() throws Exception {
+        responseBody = """
+                {"took": 3, "responses": [
+                  {"status": 200, "hits": {"total": {"value": 1, "relation": "eq"}, "max_score": 12.5, "hits": [{"_score": 12.5, "_source": {"chunk_id": 1}}]}},
+                  {"status": 200, "hits": {"total": {"value": 1, "relation": "eq"}, "max_score": 0.9, "hits": [{"_score": 0.9, "_source": {"chunk_id": 2}}]}}
+                ]}
+                """;
+
+        HybridSearch<DocumentEntity> hybridSearch = searchRepository.hybridSearch(CollectionType.ai(), QUERY, 10, 20, List.of("A"));
+
+        assertThat(requestBodies).hasSize(1);
+        String requestBody = requestBodies.get(0);
+        assertThat(requestBody).endsWith("\n");
+
+        // 헤더 / 키워드 바디 / 헤더 / 벡터 바디 순서
+        String[] lines = requestBody.split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(objectMapper.readTree(lines[0]).path("index").asText()).isEqualTo("gen_ai");
+        assertThat(lines[2]).isEqualTo(lines[0]);
+
+        JsonNode keywordBody = objectMapper.readTree(lines[1]);
+        assertThat(keywordBody.path("size").asInt()).isEqualTo(10);
+        assertThat(keywordBody.findValue("multi_match").path("query").asText()).isEqualTo(QUERY);
+
+        JsonNode vectorBody = objectMapper.readTree(lines[3]);
+        assertThat(vectorBody.path("size").asInt()).isEqualTo(20);
+        assertThat(vectorBody.findValue("knn").path("vector-context").path("vector").size()).isEqualTo(3);
+
+        assertThat(hybridSearch.getKeywordSearches()).extracting(s -> s.getFields().getChunkId()).containsExactly(1L);
+        assertThat(hybridSearch.getVectorSearches()).extracting(s -> s.getFields().getChunkId()).containsExactly(2L);
+    }
+
+    @Test
+    void hybridSearchFailsWhenKeywordItemHasError() {
+        responseBody = """
+                {"took": 3, "responses": [
+                  {"status": 400, "error": {"type": "query_shard_exception", "reason": "failed to create query"}},
+                  {"status": 200, "hits": {"total": {"value": 0, "relation": "eq"}, "max_score": 0.0, "hits": []}}
+                ]}
+                """;
+
+        assertThatThrownBy(() -> searchRepository.hybridSearch(CollectionType.ai(), QUERY, 10, 20, List.of()))
+                .isInstanceOf(SearchErrorException.class)
+                .hasMessageContaining("키워드 검색 실패");
+    }
+
+    @Test
+    void hybridSearchFailsWhenVectorItemHasError() {
+        responseBody = """
+                {"took": 3, "responses": [
+                  {"status": 200, "hits": {"total": {"value": 0, "relation": "eq"}, "max_score": 0.0, "hits": []}},
+                  {"status": 400, "error": {"type": "illegal_argument_exception", "reason": "vector dimension mismatch"}}
+                ]}
+                """;
+
+        assertThatThrownBy(() -> searchRepository.hybridSearch(CollectionType.ai(), QUERY, 10, 20, List.of()))
+                .isInstanceOf(SearchErrorException.class)
+                .hasMessageContaining("벡터 검색 실패");
+    }
+
+    @Test
+    void hybridSearchFailsWhenResponseCountMismatches() {
+        responseBody = """
+                {"took": 3, "responses": [
+                  {"status": 200, "hits": {"total": {"value": 0, "relation": "eq"}, "max_score": 0.0, "hits": []}}
+                ]}
+                """;
+
+        assertThatThrownBy(() -> searchRepository.hybridSearch(CollectionType.ai(), QUERY, 10, 20, List.of()))
+                .isInstanceOf(SearchErrorException.class)
+                .hasMessageContaining("하이브리드 검색 응답 바디 조회 실패");
+    }
+}
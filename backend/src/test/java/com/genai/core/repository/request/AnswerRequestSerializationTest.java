@@ -0,0 +1,82 @@
+package com.genai.core.repository.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genai.core.service.module.constant.QuestionModuleConst;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerRequestSerializationTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final List<Map<String, Object>> JSON_SCHEMAS = List.of(
+            QuestionModuleConst.CHAT_STATE_LLM_OPTION.getJsonSchema(),
+            QuestionModuleConst.VALID_MULTITURN_LLM_OPTION.getJsonSchema(),
+            QuestionModuleConst.QUERY_PLAN_LLM_OPTION.getJsonSchema());
+
+    @Test
+    void vllmRequestSendsGuidedJson() {
+        for (Map<String, Object> jsonSchema : JSON_SCHEMAS) {
+            JsonNode body = objectMapper.valueToTree(VllmAnswerRequest.builder()
+                    .modelName("model")
+                    .maxTokens(256)
+                    .jsonSchema(jsonSchema)
+                    .prompt("prompt")
+                    .query("query")
+                    .build());
+
+            assertThat(body.get("guided_json")).isEqualTo(objectMapper.valueToTree(jsonSchema));
+            assertThat(body.has("response_format")).isFalse();
+            assertThat(body.has("stop")).isFalse();
+        }
+    }
+
+    @Test
+    void openAIRequestSendsStrictResponseFormat() {
+        for (Map<String, Object> jsonSchema : JSON_SCHEMAS) {
+            JsonNode body = objectMapper.valueToTree(OpenAIAnswerRequest.builder()
+                    .modelName("model")
+                    .maxTokens(256)
+                    .jsonSchema(jsonSchema)
+                    .prompt("prompt")
+                    .query("query")
+                    .build());
+
+            JsonNode responseFormat = body.get("response_format");
+            assertThat(responseFormat.get("type").asText()).isEqualTo("json_schema");
+            assertThat(responseFormat.at("/json_schema/strict").asBoolean()).isTrue();
+            assertThat(responseFormat.at("/json_schema/schema/additionalProperties").asBoolean(true)).isFalse();
+            assertThat(body.has("guided_json")).isFalse();
+        }
+    }
+
+    @Test
+    void openAIRequestOmitsStrictForNonCompliantSchema() {
+        Map<String, Object> jsonSchema = Map.of(
+                "type", "object",
+                "properties", Map.of("answer", Map.of("type", "string")),
+                "required", List.of("answer"));
+
+        JsonNode body = objectMapper.valueToTree(OpenAIAnswerRequest.builder()
+                .modelName("model")
+                .jsonSchema(jsonSchema)
+                .prompt("prompt")
+                .build());
+
+        assertThat(body.at("/response_format/json_schema/strict").asBoolean()).isFalse();
+    }
+
+    @Test
+    void requestWithoutSchemaOmitsStructuredOutput() {
+        JsonNode vllmBody = objectMapper.valueToTree(VllmAnswerRequest.builder().modelName("model").prompt("prompt").build());
+        JsonNode openAIBody = objectMapper.valueToTree(OpenAIAnswerRequest.builder().modelName("model").prompt("prompt").build());
+
+        assertThat(vllmBody.has("guided_json")).isFalse();
+        assertThat(openAIBody.has("response_format")).isFalse();
+    }
+}
@@ -0,0 +1,33 @@
+package com.genai.core.type;
+
+import com.genai.core.common.enums.TopicDetectType;
+import com.genai.core.config.properties.TopicDetectProperty;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectionTypeFactoryTest {
+
+    @Test
+    void defaultsToLlmTopicDetection() {
+        CollectionTypeFactory collectionTypeFactory = new CollectionTypeFactory(new TopicDetectProperty());
+
+        assertThat(collectionTypeFactory.ai().getTopicDetectType()).isEqualTo(TopicDetectType.LLM);
+        assertThat(collectionTypeFactory.myai().getTopicDetectType()).isEqualTo(TopicDetectType.LLM);
+    }
+
+    @Test
+    void appliesConfiguredTopicDetectionPerCollection() {
+        TopicDetectProperty topicDetectProperty = new TopicDetectProperty();
+        topicDetectProperty.setCollections(Map.of("gen_ai", TopicDetectType.EMBEDDING));
+
+        CollectionTypeFactory collectionTypeFactory = new CollectionTypeFactory(topicDetectProperty);
+        CollectionType ai = collectionTypeFactory.ai();
+
+        assertThat(ai.getTopicDetectType()).isEqualTo(TopicDetectType.EMBEDDING);
+        assertThat(ai.getSourceExcludes()).isEqualTo(CollectionType.ai().getSourceExcludes());
+        assertThat(collectionTypeFactory.myai().getTopicDetectType()).isEqualTo(TopicDetectType.LLM);
+    }
+}
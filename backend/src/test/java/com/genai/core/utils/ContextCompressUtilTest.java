@@ -0,0 +1,52 @@
+package com.genai.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextCompressUtilTest {
+
+    @Test
+    void selectsRelevantSentencesInOriginalOrder() {
+        String text = "서울의 날씨는 맑다. 부산 항구는 크다. 서울 지하철은 빠르다. 제주 감귤은 달다.";
+
+        String compressed = ContextCompressUtil.compress(text, "서울", 1.0, 800);
+
+        assertThat(compressed).isEqualTo("서울의 날씨는 맑다. 서울 지하철은 빠르다.");
+    }
+
+    @Test
+    void keepsOriginalDelimiters() {
+        String text = "서울 날씨!\n부산 항구.\n서울 지하철?\n";
+
+        String compressed = ContextCompressUtil.compress(text, "서울", 1.0, 800);
+
+        assertThat(compressed).isEqualTo("서울 날씨!\n서울 지하철?");
+    }
+
+    @Test
+    void limitsToKeepRatio() {
+        String text = "서울 날씨는 맑다. 서울 항구는 크다. 서울 지하철은 빠르다. 서울 감귤은 달다.";
+
+        String compressed = ContextCompressUtil.compress(text, "서울", 0.5, 800);
+
+        assertThat(TokenCalculateUtil.countTokens(compressed)).isLessThanOrEqualTo((int) Math.ceil(TokenCalculateUtil.countTokens(text) * 0.5));
+        assertThat(compressed).startsWith("서울 날씨는 맑다.");
+    }
+
+    @Test
+    void fallsBackToLeadingSentencesWithoutOverlap() {
+        String text = "부산 항구는 크다. 제주 감귤은 달다. 대전 과학관은 넓다.";
+        int compressTokens = (int) Math.ceil(TokenCalculateUtil.countTokens(text) * 0.5);
+
+        String compressed = ContextCompressUtil.compress(text, "서울", 0.5, 800);
+
+        assertThat(compressed).isEqualTo(ContextPackUtil.trimSentences(text, compressTokens));
+    }
+
+    @Test
+    void keepsBlankAndSingleSentenceText() {
+        assertThat(ContextCompressUtil.compress("", "서울", 0.5, 800)).isEmpty();
+        assertThat(ContextCompressUtil.compress("부산 항구는 크다.", "서울", 0.5, 800)).isEqualTo("부산 항구는 크다.");
+    }
+}
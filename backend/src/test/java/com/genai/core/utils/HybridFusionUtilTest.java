@@ -0,0 +1,43 @@
+package com.genai.core.utils;
+
+import com.genai.core.repository.entity.DocumentEntity;
+import com.genai.core.repository.wrapper.Search;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HybridFusionUtilTest {
+
+    private static Search<DocumentEntity> search(long chunkId, double score) {
+        return Search.<DocumentEntity>builder()
+                .score(score)
+                .fields(DocumentEntity.builder().chunkId(chunkId).build())
+                .build();
+    }
+
+    @Test
+    void reciprocalRankFusion() {
+        // BM25 점수 스케일
+        List<Search<DocumentEntity>> keywordSearches = List.of(search(1, 18.2), search(2, 11.5), search(3, 4.1));
+        // 코사인 유사도 점수 스케일
+        List<Search<DocumentEntity>> vectorSearches = List.of(search(2, 0.91), search(4, 0.88), search(1, 0.52));
+
+        List<Search<DocumentEntity>> fused = HybridFusionUtil.reciprocalRankFusion(keywordSearches, vectorSearches, 60, 1.0, 1.0);
+
+        assertThat(fused).extracting(s -> s.getFields().getChunkId()).containsExactly(2L, 1L, 4L, 3L);
+        assertThat(fused.get(0).getScore()).isEqualTo(1.0 / 62 + 1.0 / 61);
+    }
+
+    @Test
+    void minMaxFusion() {
+        List<Search<DocumentEntity>> keywordSearches = List.of(search(1, 20.0), search(2, 10.0), search(3, 0.0));
+        List<Search<DocumentEntity>> vectorSearches = List.of(search(3, 0.9), search(2, 0.5), search(1, 0.1));
+
+        List<Search<DocumentEntity>> fused = HybridFusionUtil.minMaxFusion(keywordSearches, vectorSearches, 1.0, 2.0);
+
+        assertThat(fused).extracting(s -> s.getFields().getChunkId()).containsExactly(3L, 2L, 1L);
+        assertThat(fused.get(0).getScore()).isEqualTo(2.0);
+    }
+}